@@ -400,15 +400,10 @@ public class LogicPLParser extends Parser {
 		public MainDeclaration main;
 		public Token m;
 		public StatementContext s;
+		public FunctionCallContext f;
 		public TerminalNode LBRACE() { return getToken(LogicPLParser.LBRACE, 0); }
 		public TerminalNode RBRACE() { return getToken(LogicPLParser.RBRACE, 0); }
 		public TerminalNode MAIN() { return getToken(LogicPLParser.MAIN, 0); }
-		public List<FunctionCallContext> functionCall() {
-			return getRuleContexts(FunctionCallContext.class);
-		}
-		public FunctionCallContext functionCall(int i) {
-			return getRuleContext(FunctionCallContext.class,i);
-		}
 		public List<TerminalNode> SEMICOLON() { return getTokens(LogicPLParser.SEMICOLON); }
 		public TerminalNode SEMICOLON(int i) {
 			return getToken(LogicPLParser.SEMICOLON, i);
@@ -419,6 +414,12 @@ public class LogicPLParser extends Parser {
 		public StatementContext statement(int i) {
 			return getRuleContext(StatementContext.class,i);
 		}
+		public List<FunctionCallContext> functionCall() {
+			return getRuleContexts(FunctionCallContext.class);
+		}
+		public FunctionCallContext functionCall(int i) {
+			return getRuleContext(FunctionCallContext.class,i);
+		}
 		public MainBlockContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -450,12 +451,12 @@ public class LogicPLParser extends Parser {
 			((MainBlockContext)_localctx).m = match(MAIN);
 			setState(131);
 			match(LBRACE);
-			setState(140);
+			setState(141);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1649267444188L) != 0)) {
 				{
-				setState(138);
+				setState(139);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 				case 1:
@@ -468,18 +469,19 @@ public class LogicPLParser extends Parser {
 				case 2:
 					{
 					setState(135);
-					functionCall();
+					((MainBlockContext)_localctx).f = functionCall();
 					setState(136);
 					match(SEMICOLON);
+					FunctionCallStmt call = new FunctionCallStmt(((MainBlockContext)_localctx).f.fCallRet); call.setLine(((MainBlockContext)_localctx).f.fCallRet.getLine()); mainStmts.add(call);
 					}
 					break;
 				}
 				}
-				setState(142);
+				setState(143);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(143);
+			setState(144);
 			match(RBRACE);
 			((MainBlockContext)_localctx).main =  new MainDeclaration(mainStmts); _localctx.main.setLine(((MainBlockContext)_localctx).m.getLine());
 			}
@@ -550,13 +552,13 @@ public class LogicPLParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 8, RULE_statement);
 		try {
-			setState(168);
+			setState(169);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(146);
+				setState(147);
 				((StatementContext)_localctx).s1 = assignSmt();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s1.assignStmtRet;
 				}
@@ -565,9 +567,9 @@ public class LogicPLParser extends Parser {
 				enterOuterAlt(_localctx, 2);
 				{
 				{
-				setState(149);
-				((StatementContext)_localctx).s2 = predicate();
 				setState(150);
+				((StatementContext)_localctx).s2 = predicate();
+				setState(151);
 				match(SEMICOLON);
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s2.predicateRet;
 				}
@@ -576,7 +578,7 @@ public class LogicPLParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(153);
+				setState(154);
 				((StatementContext)_localctx).s3 = implication();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s3.implicationRet;
 				}
@@ -584,7 +586,7 @@ public class LogicPLParser extends Parser {
 			case RETURN:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(156);
+				setState(157);
 				((StatementContext)_localctx).s4 = returnSmt();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s4.returnRet;
 				}
@@ -592,7 +594,7 @@ public class LogicPLParser extends Parser {
 			case PRINT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(159);
+				setState(160);
 				((StatementContext)_localctx).s5 = printSmt();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s5.PrintStmtRet;
 				}
@@ -600,7 +602,7 @@ public class LogicPLParser extends Parser {
 			case FOR:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(162);
+				setState(163);
 				((StatementContext)_localctx).s6 = forLoop();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s6.forRet;
 				}
@@ -610,7 +612,7 @@ public class LogicPLParser extends Parser {
 			case FLOAT:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(165);
+				setState(166);
 				((StatementContext)_localctx).s7 = localVarDeclaration();
 				((StatementContext)_localctx).statementRet =  ((StatementContext)_localctx).s7.localvarDecRet;
 				}
@@ -669,13 +671,13 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(170);
-			((AssignSmtContext)_localctx).lv = variable();
 			setState(171);
-			((AssignSmtContext)_localctx).line = match(ASSIGN);
+			((AssignSmtContext)_localctx).lv = variable();
 			setState(172);
-			((AssignSmtContext)_localctx).rv = expression();
+			((AssignSmtContext)_localctx).line = match(ASSIGN);
 			setState(173);
+			((AssignSmtContext)_localctx).rv = expression();
+			setState(174);
 			match(SEMICOLON);
 			((AssignSmtContext)_localctx).assignStmtRet =  new AssignStmt(((AssignSmtContext)_localctx).lv.v,  ((AssignSmtContext)_localctx).rv.e); _localctx.assignStmtRet.setLine(((AssignSmtContext)_localctx).line.getLine());
 			}
@@ -728,13 +730,13 @@ public class LogicPLParser extends Parser {
 		VariableContext _localctx = new VariableContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_variable);
 		try {
-			setState(185);
+			setState(186);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(176);
+				setState(177);
 				((VariableContext)_localctx).i = identifier();
 				((VariableContext)_localctx).v =  ((VariableContext)_localctx).i.identifierRet;
 				}
@@ -742,13 +744,13 @@ public class LogicPLParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(179);
-				((VariableContext)_localctx).name = identifier();
 				setState(180);
-				match(LBRACKET);
+				((VariableContext)_localctx).name = identifier();
 				setState(181);
-				((VariableContext)_localctx).exp = expression();
+				match(LBRACKET);
 				setState(182);
+				((VariableContext)_localctx).exp = expression();
+				setState(183);
 				match(RBRACKET);
 				((VariableContext)_localctx).v =  new ArrayAccess(((VariableContext)_localctx).name.identifierRet.getName(), ((VariableContext)_localctx).exp.e); _localctx.v.setLine(((VariableContext)_localctx).name.identifierRet.getLine()); 
 				}
@@ -800,13 +802,13 @@ public class LogicPLParser extends Parser {
 		LocalVarDeclarationContext _localctx = new LocalVarDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_localVarDeclaration);
 		try {
-			setState(193);
+			setState(194);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(187);
+				setState(188);
 				((LocalVarDeclarationContext)_localctx).s1 = varDeclaration();
 				((LocalVarDeclarationContext)_localctx).localvarDecRet =  ((LocalVarDeclarationContext)_localctx).s1.varDecRet;
 				}
@@ -814,7 +816,7 @@ public class LogicPLParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(190);
+				setState(191);
 				((LocalVarDeclarationContext)_localctx).s2 = arrayDeclaration();
 				((LocalVarDeclarationContext)_localctx).localvarDecRet =  ((LocalVarDeclarationContext)_localctx).s2.arrayDecRet;
 				}
@@ -875,25 +877,25 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(195);
-			((VarDeclarationContext)_localctx).t = type();
 			setState(196);
+			((VarDeclarationContext)_localctx).t = type();
+			setState(197);
 			((VarDeclarationContext)_localctx).var_iden = identifier();
 			((VarDeclarationContext)_localctx).varDecRet =  new VarDecStmt(((VarDeclarationContext)_localctx).var_iden.identifierRet, ((VarDeclarationContext)_localctx).t.typeRet); _localctx.varDecRet.setLine(((VarDeclarationContext)_localctx).var_iden.identifierRet.getLine());
-			setState(202);
+			setState(203);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(198);
-				match(ASSIGN);
 				setState(199);
+				match(ASSIGN);
+				setState(200);
 				((VarDeclarationContext)_localctx).e = expression();
 				_localctx.varDecRet.setInitialExpression(((VarDeclarationContext)_localctx).e.e);
 				}
 			}
 
-			setState(204);
+			setState(205);
 			match(SEMICOLON);
 			}
 		}
@@ -954,29 +956,29 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(206);
-			((ArrayDeclarationContext)_localctx).t = type();
 			setState(207);
-			match(LBRACKET);
+			((ArrayDeclarationContext)_localctx).t = type();
 			setState(208);
-			((ArrayDeclarationContext)_localctx).INT_NUMBER = match(INT_NUMBER);
+			match(LBRACKET);
 			setState(209);
-			match(RBRACKET);
+			((ArrayDeclarationContext)_localctx).INT_NUMBER = match(INT_NUMBER);
 			setState(210);
+			match(RBRACKET);
+			setState(211);
 			((ArrayDeclarationContext)_localctx).var_iden = identifier();
 			((ArrayDeclarationContext)_localctx).arrayDecRet =  new ArrayDecStmt(((ArrayDeclarationContext)_localctx).var_iden.identifierRet, ((ArrayDeclarationContext)_localctx).t.typeRet, (((ArrayDeclarationContext)_localctx).INT_NUMBER!=null?Integer.valueOf(((ArrayDeclarationContext)_localctx).INT_NUMBER.getText()):0)); _localctx.arrayDecRet.setLine(((ArrayDeclarationContext)_localctx).var_iden.identifierRet.getLine());
-			setState(215);
+			setState(216);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(212);
+				setState(213);
 				((ArrayDeclarationContext)_localctx).initial = arrayInitialValue();
 				_localctx.arrayDecRet.setInitialValues(((ArrayDeclarationContext)_localctx).initial.initialValues);
 				}
 			}
 
-			setState(217);
+			setState(218);
 			match(SEMICOLON);
 			}
 		}
@@ -1024,9 +1026,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(219);
-			match(ASSIGN);
 			setState(220);
+			match(ASSIGN);
+			setState(221);
 			((ArrayInitialValueContext)_localctx).arrList = arrayList();
 			((ArrayInitialValueContext)_localctx).initialValues =  ((ArrayInitialValueContext)_localctx).arrList.values;
 			}
@@ -1094,9 +1096,9 @@ public class LogicPLParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((ArrayListContext)_localctx).values =  new ArrayList<Expression>();
-			setState(224);
+			setState(225);
 			match(LBRACKET);
-			setState(231);
+			setState(232);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
@@ -1105,14 +1107,14 @@ public class LogicPLParser extends Parser {
 			case INT_NUMBER:
 			case FLOAT_NUMBER:
 				{
-				setState(225);
+				setState(226);
 				((ArrayListContext)_localctx).v = value();
 				_localctx.values.add(((ArrayListContext)_localctx).v.valueRet);
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(228);
+				setState(229);
 				((ArrayListContext)_localctx).id = identifier();
 				_localctx.values.add(((ArrayListContext)_localctx).id.identifierRet);
 				}
@@ -1120,15 +1122,15 @@ public class LogicPLParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(244);
+			setState(245);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(233);
+				setState(234);
 				match(COMMA);
-				setState(240);
+				setState(241);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case TRUE:
@@ -1137,14 +1139,14 @@ public class LogicPLParser extends Parser {
 				case INT_NUMBER:
 				case FLOAT_NUMBER:
 					{
-					setState(234);
+					setState(235);
 					((ArrayListContext)_localctx).v2 = value();
 					_localctx.values.add(((ArrayListContext)_localctx).v2.valueRet);
 					}
 					break;
 				case IDENTIFIER:
 					{
-					setState(237);
+					setState(238);
 					((ArrayListContext)_localctx).id2 = identifier();
 					_localctx.values.add(((ArrayListContext)_localctx).id.identifierRet);
 					}
@@ -1154,11 +1156,11 @@ public class LogicPLParser extends Parser {
 				}
 				}
 				}
-				setState(246);
+				setState(247);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(247);
+			setState(248);
 			match(RBRACKET);
 			}
 		}
@@ -1210,15 +1212,15 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(249);
-			((PrintSmtContext)_localctx).p = match(PRINT);
 			setState(250);
-			match(LPAR);
+			((PrintSmtContext)_localctx).p = match(PRINT);
 			setState(251);
-			((PrintSmtContext)_localctx).arg = printExpr();
+			match(LPAR);
 			setState(252);
-			match(RPAR);
+			((PrintSmtContext)_localctx).arg = printExpr();
 			setState(253);
+			match(RPAR);
+			setState(254);
 			match(SEMICOLON);
 			((PrintSmtContext)_localctx).PrintStmtRet =  new PrintStmt(((PrintSmtContext)_localctx).arg.printExprRet); _localctx.PrintStmtRet.setLine(((PrintSmtContext)_localctx).p.getLine());
 			}
@@ -1268,13 +1270,13 @@ public class LogicPLParser extends Parser {
 		PrintExprContext _localctx = new PrintExprContext(_ctx, getState());
 		enterRule(_localctx, 26, RULE_printExpr);
 		try {
-			setState(262);
+			setState(263);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(256);
+				setState(257);
 				((PrintExprContext)_localctx).var = variable();
 				((PrintExprContext)_localctx).printExprRet =  ((PrintExprContext)_localctx).var.v;
 				}
@@ -1282,7 +1284,7 @@ public class LogicPLParser extends Parser {
 			case LBRACKET:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(259);
+				setState(260);
 				((PrintExprContext)_localctx).q = query();
 				((PrintExprContext)_localctx).printExprRet =  ((PrintExprContext)_localctx).q.queryRet;
 				}
@@ -1336,13 +1338,13 @@ public class LogicPLParser extends Parser {
 		QueryContext _localctx = new QueryContext(_ctx, getState());
 		enterRule(_localctx, 28, RULE_query);
 		try {
-			setState(270);
+			setState(271);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(264);
+				setState(265);
 				((QueryContext)_localctx).q1 = queryType1();
 				((QueryContext)_localctx).queryRet =  ((QueryContext)_localctx).q1.query1Ret;
 				}
@@ -1350,7 +1352,7 @@ public class LogicPLParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(267);
+				setState(268);
 				((QueryContext)_localctx).q2 = queryType2();
 				((QueryContext)_localctx).queryRet =  ((QueryContext)_localctx).q2.query2Ret;
 				}
@@ -1410,19 +1412,19 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(272);
-			match(LBRACKET);
 			setState(273);
-			((QueryType1Context)_localctx).line = match(QUARYMARK);
+			match(LBRACKET);
 			setState(274);
-			((QueryType1Context)_localctx).id = predicateIdentifier();
+			((QueryType1Context)_localctx).line = match(QUARYMARK);
 			setState(275);
-			match(LPAR);
+			((QueryType1Context)_localctx).id = predicateIdentifier();
 			setState(276);
-			((QueryType1Context)_localctx).var = variable();
+			match(LPAR);
 			setState(277);
-			match(RPAR);
+			((QueryType1Context)_localctx).var = variable();
 			setState(278);
+			match(RPAR);
+			setState(279);
 			match(RBRACKET);
 			((QueryType1Context)_localctx).query1Ret =  new QueryExpression(((QueryType1Context)_localctx).id.predicateIdentifierRet); _localctx.query1Ret.setLine(((QueryType1Context)_localctx).line.getLine()); _localctx.query1Ret.setVar(((QueryType1Context)_localctx).var.v);
 			}
@@ -1476,17 +1478,17 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(281);
-			match(LBRACKET);
 			setState(282);
-			((QueryType2Context)_localctx).id = predicateIdentifier();
+			match(LBRACKET);
 			setState(283);
-			match(LPAR);
+			((QueryType2Context)_localctx).id = predicateIdentifier();
 			setState(284);
-			((QueryType2Context)_localctx).line = match(QUARYMARK);
+			match(LPAR);
 			setState(285);
-			match(RPAR);
+			((QueryType2Context)_localctx).line = match(QUARYMARK);
 			setState(286);
+			match(RPAR);
+			setState(287);
 			match(RBRACKET);
 			((QueryType2Context)_localctx).query2Ret =  new QueryExpression(((QueryType2Context)_localctx).id.predicateIdentifierRet); _localctx.query2Ret.setLine(((QueryType2Context)_localctx).line.getLine()); 
 			}
@@ -1541,9 +1543,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(290);
 			((ReturnSmtContext)_localctx).RETURN = match(RETURN);
-			setState(296);
+			setState(297);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
@@ -1552,14 +1554,14 @@ public class LogicPLParser extends Parser {
 			case INT_NUMBER:
 			case FLOAT_NUMBER:
 				{
-				setState(290);
+				setState(291);
 				((ReturnSmtContext)_localctx).v = value();
 				((ReturnSmtContext)_localctx).returnRet =  new ReturnStmt(((ReturnSmtContext)_localctx).v.valueRet);
 				}
 				break;
 			case IDENTIFIER:
 				{
-				setState(293);
+				setState(294);
 				((ReturnSmtContext)_localctx).iden = identifier();
 				((ReturnSmtContext)_localctx).returnRet =  new ReturnStmt(((ReturnSmtContext)_localctx).iden.identifierRet);
 				}
@@ -1569,7 +1571,7 @@ public class LogicPLParser extends Parser {
 			default:
 				break;
 			}
-			setState(298);
+			setState(299);
 			match(SEMICOLON);
 			if(_localctx.returnRet == null){((ReturnSmtContext)_localctx).returnRet =  new ReturnStmt(null);}
 			_localctx.returnRet.setLine(((ReturnSmtContext)_localctx).RETURN.getLine());
@@ -1638,38 +1640,38 @@ public class LogicPLParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			ArrayList<Statement> bodyStmts = new ArrayList<>();
-			setState(303);
-			((ForLoopContext)_localctx).line = match(FOR);
 			setState(304);
-			match(LPAR);
+			((ForLoopContext)_localctx).line = match(FOR);
 			setState(305);
-			((ForLoopContext)_localctx).iterator = identifier();
+			match(LPAR);
 			setState(306);
-			match(COLON);
+			((ForLoopContext)_localctx).iterator = identifier();
 			setState(307);
-			((ForLoopContext)_localctx).arrayName = identifier();
+			match(COLON);
 			setState(308);
-			match(RPAR);
+			((ForLoopContext)_localctx).arrayName = identifier();
 			setState(309);
+			match(RPAR);
+			setState(310);
 			match(LBRACE);
 			{
-			setState(315);
+			setState(316);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1649267444188L) != 0)) {
 				{
 				{
-				setState(310);
+				setState(311);
 				((ForLoopContext)_localctx).stmt = statement();
 				bodyStmts.add(((ForLoopContext)_localctx).stmt.statementRet);
 				}
 				}
-				setState(317);
+				setState(318);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
 			}
-			setState(318);
+			setState(319);
 			match(RBRACE);
 			((ForLoopContext)_localctx).forRet =  new ForloopStmt(((ForLoopContext)_localctx).iterator.identifierRet, ((ForLoopContext)_localctx).arrayName.identifierRet, bodyStmts); _localctx.forRet.setLine(((ForLoopContext)_localctx).line.getLine());
 			}
@@ -1723,13 +1725,13 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(321);
-			((PredicateContext)_localctx).id = predicateIdentifier();
 			setState(322);
-			match(LPAR);
+			((PredicateContext)_localctx).id = predicateIdentifier();
 			setState(323);
-			((PredicateContext)_localctx).v = variable();
+			match(LPAR);
 			setState(324);
+			((PredicateContext)_localctx).v = variable();
+			setState(325);
 			match(RPAR);
 			((PredicateContext)_localctx).predicateRet =  new PredicateStmt(((PredicateContext)_localctx).id.predicateIdentifierRet, ((PredicateContext)_localctx).v.v); _localctx.predicateRet.setLine(((PredicateContext)_localctx).id.predicateIdentifierRet.getLine());
 			}
@@ -1796,34 +1798,34 @@ public class LogicPLParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			ArrayList<Statement> results = new ArrayList<Statement>();
-			setState(328);
-			match(LPAR);
 			setState(329);
-			((ImplicationContext)_localctx).e = expression();
+			match(LPAR);
 			setState(330);
-			match(RPAR);
+			((ImplicationContext)_localctx).e = expression();
 			setState(331);
-			((ImplicationContext)_localctx).a = match(ARROW);
+			match(RPAR);
 			setState(332);
+			((ImplicationContext)_localctx).a = match(ARROW);
+			setState(333);
 			match(LPAR);
 			{
-			setState(336); 
+			setState(337); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(333);
+				setState(334);
 				((ImplicationContext)_localctx).s = statement();
 				results.add(((ImplicationContext)_localctx).s.statementRet);
 				}
 				}
-				setState(338); 
+				setState(339); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 1649267444188L) != 0) );
 			}
-			setState(340);
+			setState(341);
 			match(RPAR);
 			((ImplicationContext)_localctx).implicationRet =  new ImplicationStmt(((ImplicationContext)_localctx).e.e, results); _localctx.implicationRet.setLine(((ImplicationContext)_localctx).a.getLine());
 			}
@@ -1875,9 +1877,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(343);
-			((ExpressionContext)_localctx).l = andExpr();
 			setState(344);
+			((ExpressionContext)_localctx).l = andExpr();
+			setState(345);
 			((ExpressionContext)_localctx).r = expression2();
 			if(((ExpressionContext)_localctx).r.e != null) {((ExpressionContext)_localctx).e =  new BinaryExpression(((ExpressionContext)_localctx).l.e, ((ExpressionContext)_localctx).r.e.getRight(), ((ExpressionContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((ExpressionContext)_localctx).r.e.getLine());} else {((ExpressionContext)_localctx).e =  ((ExpressionContext)_localctx).l.e;}
 			}
@@ -1930,17 +1932,17 @@ public class LogicPLParser extends Parser {
 		Expression2Context _localctx = new Expression2Context(_ctx, getState());
 		enterRule(_localctx, 44, RULE_expression2);
 		try {
-			setState(354);
+			setState(355);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case OR:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(347);
-				((Expression2Context)_localctx).OR = match(OR);
 				setState(348);
-				((Expression2Context)_localctx).l = andExpr();
+				((Expression2Context)_localctx).OR = match(OR);
 				setState(349);
+				((Expression2Context)_localctx).l = andExpr();
+				setState(350);
 				((Expression2Context)_localctx).r = expression2();
 				if(((Expression2Context)_localctx).r.e != null) {((Expression2Context)_localctx).ee =  new BinaryExpression(((Expression2Context)_localctx).l.e, ((Expression2Context)_localctx).r.e.getRight(), ((Expression2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((Expression2Context)_localctx).r.e.getLine()); ((Expression2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, BinaryOperator.or);} else{((Expression2Context)_localctx).e =  new BinaryExpression(null, ((Expression2Context)_localctx).l.e, BinaryOperator.or);}
 				_localctx.e.setLine(((Expression2Context)_localctx).OR.getLine());
@@ -2006,9 +2008,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(356);
-			((AndExprContext)_localctx).l = eqExpr();
 			setState(357);
+			((AndExprContext)_localctx).l = eqExpr();
+			setState(358);
 			((AndExprContext)_localctx).r = andExpr2();
 			if(((AndExprContext)_localctx).r.e != null) {((AndExprContext)_localctx).e =  new BinaryExpression(((AndExprContext)_localctx).l.e, ((AndExprContext)_localctx).r.e.getRight(), ((AndExprContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((AndExprContext)_localctx).r.e.getLine());} else {((AndExprContext)_localctx).e =  ((AndExprContext)_localctx).l.e;}
 			}
@@ -2061,17 +2063,17 @@ public class LogicPLParser extends Parser {
 		AndExpr2Context _localctx = new AndExpr2Context(_ctx, getState());
 		enterRule(_localctx, 48, RULE_andExpr2);
 		try {
-			setState(367);
+			setState(368);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case AND:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(360);
-				((AndExpr2Context)_localctx).AND = match(AND);
 				setState(361);
-				((AndExpr2Context)_localctx).l = eqExpr();
+				((AndExpr2Context)_localctx).AND = match(AND);
 				setState(362);
+				((AndExpr2Context)_localctx).l = eqExpr();
+				setState(363);
 				((AndExpr2Context)_localctx).r = andExpr2();
 				if(((AndExpr2Context)_localctx).r.e != null) {((AndExpr2Context)_localctx).ee =  new BinaryExpression(((AndExpr2Context)_localctx).l.e, ((AndExpr2Context)_localctx).r.e.getRight(), ((AndExpr2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((AndExpr2Context)_localctx).r.e.getLine()); ((AndExpr2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, BinaryOperator.and);} else{((AndExpr2Context)_localctx).e =  new BinaryExpression(null, ((AndExpr2Context)_localctx).l.e, BinaryOperator.and);}
 				_localctx.e.setLine(((AndExpr2Context)_localctx).AND.getLine());
@@ -2138,9 +2140,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(369);
-			((EqExprContext)_localctx).l = compExpr();
 			setState(370);
+			((EqExprContext)_localctx).l = compExpr();
+			setState(371);
 			((EqExprContext)_localctx).r = eqExpr2();
 			if(((EqExprContext)_localctx).r.e != null) {((EqExprContext)_localctx).e =  new BinaryExpression(((EqExprContext)_localctx).l.e, ((EqExprContext)_localctx).r.e.getRight(), ((EqExprContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((EqExprContext)_localctx).r.e.getLine());} else {((EqExprContext)_localctx).e =  ((EqExprContext)_localctx).l.e;}
 			}
@@ -2195,26 +2197,26 @@ public class LogicPLParser extends Parser {
 		EqExpr2Context _localctx = new EqExpr2Context(_ctx, getState());
 		enterRule(_localctx, 52, RULE_eqExpr2);
 		try {
-			setState(385);
+			setState(386);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case EQ:
 			case NEQ:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(377);
+				setState(378);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case EQ:
 					{
-					setState(373);
+					setState(374);
 					((EqExpr2Context)_localctx).op = match(EQ);
 					((EqExpr2Context)_localctx).opt =  BinaryOperator.eq;
 					}
 					break;
 				case NEQ:
 					{
-					setState(375);
+					setState(376);
 					((EqExpr2Context)_localctx).op = match(NEQ);
 					((EqExpr2Context)_localctx).opt =  BinaryOperator.neq;
 					}
@@ -2222,9 +2224,9 @@ public class LogicPLParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(379);
-				((EqExpr2Context)_localctx).l = compExpr();
 				setState(380);
+				((EqExpr2Context)_localctx).l = compExpr();
+				setState(381);
 				((EqExpr2Context)_localctx).r = eqExpr2();
 				if(((EqExpr2Context)_localctx).r.e != null) {((EqExpr2Context)_localctx).ee =  new BinaryExpression(((EqExpr2Context)_localctx).l.e, ((EqExpr2Context)_localctx).r.e.getRight(), ((EqExpr2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((EqExpr2Context)_localctx).r.e.getLine()); ((EqExpr2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, _localctx.opt);} else{((EqExpr2Context)_localctx).e =  new BinaryExpression(null, ((EqExpr2Context)_localctx).l.e, _localctx.opt);}
 				_localctx.e.setLine(((EqExpr2Context)_localctx).op.getLine());
@@ -2292,9 +2294,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(387);
-			((CompExprContext)_localctx).l = additive();
 			setState(388);
+			((CompExprContext)_localctx).l = additive();
+			setState(389);
 			((CompExprContext)_localctx).r = compExpr2();
 			if(((CompExprContext)_localctx).r.e != null) {((CompExprContext)_localctx).e =  new BinaryExpression(((CompExprContext)_localctx).l.e, ((CompExprContext)_localctx).r.e.getRight(), ((CompExprContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((CompExprContext)_localctx).r.e.getLine());} else {((CompExprContext)_localctx).e =  ((CompExprContext)_localctx).l.e;}
 			}
@@ -2351,7 +2353,7 @@ public class LogicPLParser extends Parser {
 		CompExpr2Context _localctx = new CompExpr2Context(_ctx, getState());
 		enterRule(_localctx, 56, RULE_compExpr2);
 		try {
-			setState(407);
+			setState(408);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case GT:
@@ -2360,33 +2362,33 @@ public class LogicPLParser extends Parser {
 			case LTE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(399);
+				setState(400);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case LT:
 					{
-					setState(391);
+					setState(392);
 					((CompExpr2Context)_localctx).op = match(LT);
 					((CompExpr2Context)_localctx).opt =  BinaryOperator.lt;
 					}
 					break;
 				case LTE:
 					{
-					setState(393);
+					setState(394);
 					((CompExpr2Context)_localctx).op = match(LTE);
 					((CompExpr2Context)_localctx).opt =  BinaryOperator.lte;
 					}
 					break;
 				case GT:
 					{
-					setState(395);
+					setState(396);
 					((CompExpr2Context)_localctx).op = match(GT);
 					((CompExpr2Context)_localctx).opt =  BinaryOperator.gt;
 					}
 					break;
 				case GTE:
 					{
-					setState(397);
+					setState(398);
 					((CompExpr2Context)_localctx).op = match(GTE);
 					((CompExpr2Context)_localctx).opt =  BinaryOperator.gte;
 					}
@@ -2394,9 +2396,9 @@ public class LogicPLParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(401);
-				((CompExpr2Context)_localctx).l = additive();
 				setState(402);
+				((CompExpr2Context)_localctx).l = additive();
+				setState(403);
 				((CompExpr2Context)_localctx).r = compExpr2();
 				if(((CompExpr2Context)_localctx).r.e != null) {((CompExpr2Context)_localctx).ee =  new BinaryExpression(((CompExpr2Context)_localctx).l.e, ((CompExpr2Context)_localctx).r.e.getRight(), ((CompExpr2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((CompExpr2Context)_localctx).r.e.getLine()); ((CompExpr2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, _localctx.opt);} else{((CompExpr2Context)_localctx).e =  new BinaryExpression(null, ((CompExpr2Context)_localctx).l.e, _localctx.opt);}
 				_localctx.e.setLine(((CompExpr2Context)_localctx).op.getLine());
@@ -2466,9 +2468,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(409);
-			((AdditiveContext)_localctx).l = multicative();
 			setState(410);
+			((AdditiveContext)_localctx).l = multicative();
+			setState(411);
 			((AdditiveContext)_localctx).r = additive2();
 			if(((AdditiveContext)_localctx).r.e != null) {((AdditiveContext)_localctx).e =  new BinaryExpression(((AdditiveContext)_localctx).l.e, ((AdditiveContext)_localctx).r.e.getRight(), ((AdditiveContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((AdditiveContext)_localctx).r.e.getLine());} else {((AdditiveContext)_localctx).e =  ((AdditiveContext)_localctx).l.e;}
 			}
@@ -2523,26 +2525,26 @@ public class LogicPLParser extends Parser {
 		Additive2Context _localctx = new Additive2Context(_ctx, getState());
 		enterRule(_localctx, 60, RULE_additive2);
 		try {
-			setState(425);
+			setState(426);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case PLUS:
 			case MINUS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(417);
+				setState(418);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PLUS:
 					{
-					setState(413);
+					setState(414);
 					((Additive2Context)_localctx).op = match(PLUS);
 					((Additive2Context)_localctx).opt =  BinaryOperator.add;
 					}
 					break;
 				case MINUS:
 					{
-					setState(415);
+					setState(416);
 					((Additive2Context)_localctx).op = match(MINUS);
 					((Additive2Context)_localctx).opt =  BinaryOperator.sub;
 					}
@@ -2550,9 +2552,9 @@ public class LogicPLParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(419);
-				((Additive2Context)_localctx).l = multicative();
 				setState(420);
+				((Additive2Context)_localctx).l = multicative();
+				setState(421);
 				((Additive2Context)_localctx).r = additive2();
 				if(((Additive2Context)_localctx).r.e != null) {((Additive2Context)_localctx).ee =  new BinaryExpression(((Additive2Context)_localctx).l.e, ((Additive2Context)_localctx).r.e.getRight(), ((Additive2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((Additive2Context)_localctx).r.e.getLine()); ((Additive2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, _localctx.opt);} else{((Additive2Context)_localctx).e =  new BinaryExpression(null, ((Additive2Context)_localctx).l.e, _localctx.opt);}
 				_localctx.e.setLine(((Additive2Context)_localctx).op.getLine());
@@ -2626,9 +2628,9 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(427);
-			((MulticativeContext)_localctx).l = unary();
 			setState(428);
+			((MulticativeContext)_localctx).l = unary();
+			setState(429);
 			((MulticativeContext)_localctx).r = multicative2();
 			if(((MulticativeContext)_localctx).r.e != null) {((MulticativeContext)_localctx).e =  new BinaryExpression(((MulticativeContext)_localctx).l.e, ((MulticativeContext)_localctx).r.e.getRight(), ((MulticativeContext)_localctx).r.e.getBinaryOperator()); _localctx.e.setLine(((MulticativeContext)_localctx).r.e.getLine());} else {((MulticativeContext)_localctx).e =  ((MulticativeContext)_localctx).l.e;}
 			}
@@ -2684,7 +2686,7 @@ public class LogicPLParser extends Parser {
 		Multicative2Context _localctx = new Multicative2Context(_ctx, getState());
 		enterRule(_localctx, 64, RULE_multicative2);
 		try {
-			setState(445);
+			setState(446);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MULT:
@@ -2692,26 +2694,26 @@ public class LogicPLParser extends Parser {
 			case MOD:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(437);
+				setState(438);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case MULT:
 					{
-					setState(431);
+					setState(432);
 					((Multicative2Context)_localctx).op = match(MULT);
 					((Multicative2Context)_localctx).opt =  BinaryOperator.mult;
 					}
 					break;
 				case MOD:
 					{
-					setState(433);
+					setState(434);
 					((Multicative2Context)_localctx).op = match(MOD);
 					((Multicative2Context)_localctx).opt =  BinaryOperator.mod;
 					}
 					break;
 				case DIV:
 					{
-					setState(435);
+					setState(436);
 					((Multicative2Context)_localctx).op = match(DIV);
 					((Multicative2Context)_localctx).opt =  BinaryOperator.div;
 					}
@@ -2719,9 +2721,9 @@ public class LogicPLParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(439);
-				((Multicative2Context)_localctx).l = unary();
 				setState(440);
+				((Multicative2Context)_localctx).l = unary();
+				setState(441);
 				((Multicative2Context)_localctx).r = multicative2();
 				if(((Multicative2Context)_localctx).r.e != null) {((Multicative2Context)_localctx).ee =  new BinaryExpression(((Multicative2Context)_localctx).l.e, ((Multicative2Context)_localctx).r.e.getRight(), ((Multicative2Context)_localctx).r.e.getBinaryOperator()); _localctx.ee.setLine(((Multicative2Context)_localctx).r.e.getLine()); ((Multicative2Context)_localctx).e =  new BinaryExpression(null, _localctx.ee, _localctx.opt);} else{((Multicative2Context)_localctx).e =  new BinaryExpression(null, ((Multicative2Context)_localctx).l.e, _localctx.opt);}
 				_localctx.e.setLine(((Multicative2Context)_localctx).op.getLine());
@@ -2797,13 +2799,13 @@ public class LogicPLParser extends Parser {
 		UnaryContext _localctx = new UnaryContext(_ctx, getState());
 		enterRule(_localctx, 66, RULE_unary);
 		try {
-			setState(461);
+			setState(462);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(447);
+				setState(448);
 				((UnaryContext)_localctx).otherRet = other();
 				((UnaryContext)_localctx).e =  ((UnaryContext)_localctx).otherRet.e;
 				}
@@ -2811,26 +2813,26 @@ public class LogicPLParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(456);
+				setState(457);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PLUS:
 					{
-					setState(450);
+					setState(451);
 					((UnaryContext)_localctx).op = match(PLUS);
 					((UnaryContext)_localctx).opt =  UnaryOperator.plus;
 					}
 					break;
 				case MINUS:
 					{
-					setState(452);
+					setState(453);
 					((UnaryContext)_localctx).op = match(MINUS);
 					((UnaryContext)_localctx).opt =  UnaryOperator.minus;
 					}
 					break;
 				case NOT:
 					{
-					setState(454);
+					setState(455);
 					((UnaryContext)_localctx).op = match(NOT);
 					((UnaryContext)_localctx).opt =  UnaryOperator.not;
 					}
@@ -2838,7 +2840,7 @@ public class LogicPLParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(458);
+				setState(459);
 				((UnaryContext)_localctx).expr = other();
 				((UnaryContext)_localctx).e =  new UnaryExpression(_localctx.opt, ((UnaryContext)_localctx).expr.e); _localctx.e.setLine(((UnaryContext)_localctx).op.getLine());
 				}
@@ -2904,17 +2906,17 @@ public class LogicPLParser extends Parser {
 		OtherContext _localctx = new OtherContext(_ctx, getState());
 		enterRule(_localctx, 68, RULE_other);
 		try {
-			setState(480);
+			setState(481);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(463);
-				match(LPAR);
 				setState(464);
-				((OtherContext)_localctx).expr = expression();
+				match(LPAR);
 				setState(465);
+				((OtherContext)_localctx).expr = expression();
+				setState(466);
 				match(RPAR);
 				((OtherContext)_localctx).e =  ((OtherContext)_localctx).expr.e;
 				}
@@ -2922,7 +2924,7 @@ public class LogicPLParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(468);
+				setState(469);
 				((OtherContext)_localctx).var = variable();
 				((OtherContext)_localctx).e =  ((OtherContext)_localctx).var.v;
 				}
@@ -2930,7 +2932,7 @@ public class LogicPLParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(471);
+				setState(472);
 				((OtherContext)_localctx).val = value();
 				((OtherContext)_localctx).e =  ((OtherContext)_localctx).val.valueRet;
 				}
@@ -2938,7 +2940,7 @@ public class LogicPLParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(474);
+				setState(475);
 				((OtherContext)_localctx).q1 = queryType1();
 				((OtherContext)_localctx).e =  ((OtherContext)_localctx).q1.query1Ret;
 				}
@@ -2946,7 +2948,7 @@ public class LogicPLParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(477);
+				setState(478);
 				((OtherContext)_localctx).funcCall = functionCall();
 				((OtherContext)_localctx).e =  ((OtherContext)_localctx).funcCall.fCallRet;
 				}
@@ -3012,39 +3014,39 @@ public class LogicPLParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			ArrayList<Expression> args = new ArrayList<Expression>();
-			setState(483);
-			((FunctionCallContext)_localctx).name = identifier();
 			setState(484);
+			((FunctionCallContext)_localctx).name = identifier();
+			setState(485);
 			match(LPAR);
-			setState(496);
+			setState(497);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 7218766810624L) != 0)) {
 				{
-				setState(485);
+				setState(486);
 				((FunctionCallContext)_localctx).arg1 = expression();
 				args.add(((FunctionCallContext)_localctx).arg1.e);
-				setState(493);
+				setState(494);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(487);
-					match(COMMA);
 					setState(488);
+					match(COMMA);
+					setState(489);
 					((FunctionCallContext)_localctx).newArg = expression();
 					args.add(((FunctionCallContext)_localctx).newArg.e);
 					}
 					}
-					setState(495);
+					setState(496);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(498);
+			setState(499);
 			match(RPAR);
 			((FunctionCallContext)_localctx).fCallRet =  new FunctionCall(args, ((FunctionCallContext)_localctx).name.identifierRet); _localctx.fCallRet.setLine(((FunctionCallContext)_localctx).name.identifierRet.getLine());
 			}
@@ -3096,14 +3098,14 @@ public class LogicPLParser extends Parser {
 		ValueContext _localctx = new ValueContext(_ctx, getState());
 		enterRule(_localctx, 72, RULE_value);
 		try {
-			setState(514);
+			setState(515);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT_NUMBER:
 			case FLOAT_NUMBER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(501);
+				setState(502);
 				((ValueContext)_localctx).v = numericValue();
 				((ValueContext)_localctx).valueRet =  ((ValueContext)_localctx).v.v;
 				}
@@ -3111,7 +3113,7 @@ public class LogicPLParser extends Parser {
 			case TRUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(504);
+				setState(505);
 				((ValueContext)_localctx).t = match(TRUE);
 				((ValueContext)_localctx).valueRet =  new BooleanValue(true);
 				_localctx.valueRet.setLine(((ValueContext)_localctx).t.getLine());
@@ -3120,7 +3122,7 @@ public class LogicPLParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(507);
+				setState(508);
 				((ValueContext)_localctx).f = match(FALSE);
 				((ValueContext)_localctx).valueRet =  new BooleanValue(false);
 				_localctx.valueRet.setLine(((ValueContext)_localctx).f.getLine());
@@ -3129,9 +3131,9 @@ public class LogicPLParser extends Parser {
 			case MINUS:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(510);
-				match(MINUS);
 				setState(511);
+				match(MINUS);
+				setState(512);
 				((ValueContext)_localctx).v2 = numericValue();
 				((ValueContext)_localctx).v2.v.negateConstant(); ((ValueContext)_localctx).valueRet =  ((ValueContext)_localctx).v2.v;
 				}
@@ -3181,13 +3183,13 @@ public class LogicPLParser extends Parser {
 		NumericValueContext _localctx = new NumericValueContext(_ctx, getState());
 		enterRule(_localctx, 74, RULE_numericValue);
 		try {
-			setState(522);
+			setState(523);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT_NUMBER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(516);
+				setState(517);
 				((NumericValueContext)_localctx).i = match(INT_NUMBER);
 				((NumericValueContext)_localctx).v =  new IntValue((((NumericValueContext)_localctx).i!=null?Integer.valueOf(((NumericValueContext)_localctx).i.getText()):0));
 				_localctx.v.setLine(((NumericValueContext)_localctx).i.getLine());
@@ -3196,7 +3198,7 @@ public class LogicPLParser extends Parser {
 			case FLOAT_NUMBER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(519);
+				setState(520);
 				((NumericValueContext)_localctx).f = match(FLOAT_NUMBER);
 				((NumericValueContext)_localctx).v =  new FloatValue(Float.parseFloat((((NumericValueContext)_localctx).f!=null?((NumericValueContext)_localctx).f.getText():null)));
 				_localctx.v.setLine(((NumericValueContext)_localctx).f.getLine());
@@ -3247,7 +3249,7 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(524);
+			setState(525);
 			((IdentifierContext)_localctx).idnfr = match(IDENTIFIER);
 			((IdentifierContext)_localctx).identifierRet =  new Identifier((((IdentifierContext)_localctx).idnfr!=null?((IdentifierContext)_localctx).idnfr.getText():null)); _localctx.identifierRet.setLine(((IdentifierContext)_localctx).idnfr.getLine());
 			}
@@ -3293,7 +3295,7 @@ public class LogicPLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(527);
+			setState(528);
 			((PredicateIdentifierContext)_localctx).predicate_idnfr = match(PREDICATE_IDENTIFIER);
 			((PredicateIdentifierContext)_localctx).predicateIdentifierRet =  new Identifier((((PredicateIdentifierContext)_localctx).predicate_idnfr!=null?((PredicateIdentifierContext)_localctx).predicate_idnfr.getText():null)); _localctx.predicateIdentifierRet.setLine(((PredicateIdentifierContext)_localctx).predicate_idnfr.getLine());
 			}
@@ -3338,13 +3340,13 @@ public class LogicPLParser extends Parser {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 80, RULE_type);
 		try {
-			setState(536);
+			setState(537);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(530);
+				setState(531);
 				match(BOOLEAN);
 				((TypeContext)_localctx).typeRet =  new BooleanType();
 				}
@@ -3352,7 +3354,7 @@ public class LogicPLParser extends Parser {
 			case INT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(532);
+				setState(533);
 				match(INT);
 				((TypeContext)_localctx).typeRet =  new IntType();
 				}
@@ -3360,7 +3362,7 @@ public class LogicPLParser extends Parser {
 			case FLOAT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(534);
+				setState(535);
 				match(FLOAT);
 				((TypeContext)_localctx).typeRet =  new FloatType();
 				}
@@ -3381,7 +3383,7 @@ public class LogicPLParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001*\u021b\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001*\u021c\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3402,92 +3404,92 @@ public class LogicPLParser extends Parser {
 		"w\b\u0001\u000b\u0001\f\u0001x\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
 		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001"+
 		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
-		"\u0003\u0005\u0003\u008b\b\u0003\n\u0003\f\u0003\u008e\t\u0003\u0001\u0003"+
-		"\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
+		"\u0003\u0001\u0003\u0005\u0003\u008c\b\u0003\n\u0003\f\u0003\u008f\t\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004"+
 		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
 		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
 		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
-		"\u0003\u0004\u00a9\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
-		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006"+
-		"\u00ba\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0003\u0007\u00c2\b\u0007\u0001\b\u0001\b\u0001\b\u0001\b"+
-		"\u0001\b\u0001\b\u0001\b\u0003\b\u00cb\b\b\u0001\b\u0001\b\u0001\t\u0001"+
-		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0003\t\u00d8"+
-		"\b\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001"+
-		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
-		"\u000b\u0003\u000b\u00e8\b\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
-		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0003\u000b\u00f1\b\u000b\u0005"+
-		"\u000b\u00f3\b\u000b\n\u000b\f\u000b\u00f6\t\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
-		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u0107\b\r\u0001\u000e\u0001"+
-		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u010f"+
-		"\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001"+
-		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0003\u0011\u0129\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0005"+
-		"\u0012\u013a\b\u0012\n\u0012\f\u0012\u013d\t\u0012\u0001\u0012\u0001\u0012"+
-		"\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
-		"\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
-		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0004\u0014\u0151\b\u0014"+
-		"\u000b\u0014\f\u0014\u0152\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015"+
-		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016"+
-		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0163\b\u0016"+
-		"\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018"+
-		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018"+
-		"\u0170\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0003\u001a\u017a\b\u001a\u0001\u001a"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0003\u001a"+
-		"\u0182\b\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001c"+
+		"\u0001\u0004\u0003\u0004\u00aa\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
+		"\u0003\u0006\u00bb\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0003\u0007\u00c3\b\u0007\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003\b\u00cc\b\b\u0001\b\u0001\b\u0001"+
+		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0003"+
+		"\t\u00d9\b\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0003\u000b\u00e9\b\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0003\u000b\u00f2\b\u000b"+
+		"\u0005\u000b\u00f4\b\u000b\n\u000b\f\u000b\u00f7\t\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r"+
+		"\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u0108\b\r\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0003\u000e"+
+		"\u0110\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0003\u0011\u012a\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0005\u0012\u013b\b\u0012\n\u0012\f\u0012\u013e\t\u0012\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0004\u0014\u0152"+
+		"\b\u0014\u000b\u0014\f\u0014\u0153\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016"+
+		"\u0164\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0003\u0018\u0171\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0003\u001a\u017b\b\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
+		"\u0003\u001a\u0183\b\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
 		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0003\u001c\u0190\b\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0198\b\u001c\u0001\u001d"+
-		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0003\u001e\u01a2\b\u001e\u0001\u001e\u0001\u001e\u0001\u001e"+
-		"\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u01aa\b\u001e\u0001\u001f"+
-		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0003 \u01b6\b \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003"+
-		" \u01be\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
-		"!\u0003!\u01c9\b!\u0001!\u0001!\u0001!\u0003!\u01ce\b!\u0001\"\u0001\""+
-		"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
-		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u01e1\b\"\u0001"+
-		"#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0005#\u01ec"+
-		"\b#\n#\f#\u01ef\t#\u0003#\u01f1\b#\u0001#\u0001#\u0001#\u0001$\u0001$"+
+		"\u0001\u001c\u0001\u001c\u0003\u001c\u0191\b\u001c\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0199\b\u001c"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0003\u001e\u01a3\b\u001e\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u01ab\b\u001e"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001 "+
+		"\u0001 \u0001 \u0001 \u0003 \u01b7\b \u0001 \u0001 \u0001 \u0001 \u0001"+
+		" \u0001 \u0003 \u01bf\b \u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0003!\u01ca\b!\u0001!\u0001!\u0001!\u0003!\u01cf\b!\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u01e2"+
+		"\b\"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0005"+
+		"#\u01ed\b#\n#\f#\u01f0\t#\u0003#\u01f2\b#\u0001#\u0001#\u0001#\u0001$"+
 		"\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0001"+
-		"$\u0001$\u0003$\u0203\b$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0003"+
-		"%\u020b\b%\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001(\u0001("+
-		"\u0001(\u0001(\u0001(\u0001(\u0003(\u0219\b(\u0001(\u0000\u0000)\u0000"+
-		"\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c"+
-		"\u001e \"$&(*,.02468:<>@BDFHJLNP\u0000\u0000\u0226\u0000R\u0001\u0000"+
-		"\u0000\u0000\u0002^\u0001\u0000\u0000\u0000\u0004}\u0001\u0000\u0000\u0000"+
-		"\u0006\u0081\u0001\u0000\u0000\u0000\b\u00a8\u0001\u0000\u0000\u0000\n"+
-		"\u00aa\u0001\u0000\u0000\u0000\f\u00b9\u0001\u0000\u0000\u0000\u000e\u00c1"+
-		"\u0001\u0000\u0000\u0000\u0010\u00c3\u0001\u0000\u0000\u0000\u0012\u00ce"+
-		"\u0001\u0000\u0000\u0000\u0014\u00db\u0001\u0000\u0000\u0000\u0016\u00df"+
-		"\u0001\u0000\u0000\u0000\u0018\u00f9\u0001\u0000\u0000\u0000\u001a\u0106"+
-		"\u0001\u0000\u0000\u0000\u001c\u010e\u0001\u0000\u0000\u0000\u001e\u0110"+
-		"\u0001\u0000\u0000\u0000 \u0119\u0001\u0000\u0000\u0000\"\u0121\u0001"+
-		"\u0000\u0000\u0000$\u012e\u0001\u0000\u0000\u0000&\u0141\u0001\u0000\u0000"+
-		"\u0000(\u0147\u0001\u0000\u0000\u0000*\u0157\u0001\u0000\u0000\u0000,"+
-		"\u0162\u0001\u0000\u0000\u0000.\u0164\u0001\u0000\u0000\u00000\u016f\u0001"+
-		"\u0000\u0000\u00002\u0171\u0001\u0000\u0000\u00004\u0181\u0001\u0000\u0000"+
-		"\u00006\u0183\u0001\u0000\u0000\u00008\u0197\u0001\u0000\u0000\u0000:"+
-		"\u0199\u0001\u0000\u0000\u0000<\u01a9\u0001\u0000\u0000\u0000>\u01ab\u0001"+
-		"\u0000\u0000\u0000@\u01bd\u0001\u0000\u0000\u0000B\u01cd\u0001\u0000\u0000"+
-		"\u0000D\u01e0\u0001\u0000\u0000\u0000F\u01e2\u0001\u0000\u0000\u0000H"+
-		"\u0202\u0001\u0000\u0000\u0000J\u020a\u0001\u0000\u0000\u0000L\u020c\u0001"+
-		"\u0000\u0000\u0000N\u020f\u0001\u0000\u0000\u0000P\u0218\u0001\u0000\u0000"+
-		"\u0000RX\u0006\u0000\uffff\uffff\u0000ST\u0003\u0002\u0001\u0000TU\u0006"+
-		"\u0000\uffff\uffff\u0000UW\u0001\u0000\u0000\u0000VS\u0001\u0000\u0000"+
-		"\u0000WZ\u0001\u0000\u0000\u0000XV\u0001\u0000\u0000\u0000XY\u0001\u0000"+
-		"\u0000\u0000Y[\u0001\u0000\u0000\u0000ZX\u0001\u0000\u0000\u0000[\\\u0003"+
-		"\u0006\u0003\u0000\\]\u0006\u0000\uffff\uffff\u0000]\u0001\u0001\u0000"+
-		"\u0000\u0000^_\u0006\u0001\uffff\uffff\u0000_`\u0005\u0001\u0000\u0000"+
-		"`a\u0003L&\u0000am\u0005\u000b\u0000\u0000bc\u0003\u0004\u0002\u0000c"+
-		"j\u0006\u0001\uffff\uffff\u0000de\u0005\u000e\u0000\u0000ef\u0003\u0004"+
+		"$\u0001$\u0001$\u0003$\u0204\b$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001"+
+		"%\u0003%\u020c\b%\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0001\'\u0001("+
+		"\u0001(\u0001(\u0001(\u0001(\u0001(\u0003(\u021a\b(\u0001(\u0000\u0000"+
+		")\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a"+
+		"\u001c\u001e \"$&(*,.02468:<>@BDFHJLNP\u0000\u0000\u0227\u0000R\u0001"+
+		"\u0000\u0000\u0000\u0002^\u0001\u0000\u0000\u0000\u0004}\u0001\u0000\u0000"+
+		"\u0000\u0006\u0081\u0001\u0000\u0000\u0000\b\u00a9\u0001\u0000\u0000\u0000"+
+		"\n\u00ab\u0001\u0000\u0000\u0000\f\u00ba\u0001\u0000\u0000\u0000\u000e"+
+		"\u00c2\u0001\u0000\u0000\u0000\u0010\u00c4\u0001\u0000\u0000\u0000\u0012"+
+		"\u00cf\u0001\u0000\u0000\u0000\u0014\u00dc\u0001\u0000\u0000\u0000\u0016"+
+		"\u00e0\u0001\u0000\u0000\u0000\u0018\u00fa\u0001\u0000\u0000\u0000\u001a"+
+		"\u0107\u0001\u0000\u0000\u0000\u001c\u010f\u0001\u0000\u0000\u0000\u001e"+
+		"\u0111\u0001\u0000\u0000\u0000 \u011a\u0001\u0000\u0000\u0000\"\u0122"+
+		"\u0001\u0000\u0000\u0000$\u012f\u0001\u0000\u0000\u0000&\u0142\u0001\u0000"+
+		"\u0000\u0000(\u0148\u0001\u0000\u0000\u0000*\u0158\u0001\u0000\u0000\u0000"+
+		",\u0163\u0001\u0000\u0000\u0000.\u0165\u0001\u0000\u0000\u00000\u0170"+
+		"\u0001\u0000\u0000\u00002\u0172\u0001\u0000\u0000\u00004\u0182\u0001\u0000"+
+		"\u0000\u00006\u0184\u0001\u0000\u0000\u00008\u0198\u0001\u0000\u0000\u0000"+
+		":\u019a\u0001\u0000\u0000\u0000<\u01aa\u0001\u0000\u0000\u0000>\u01ac"+
+		"\u0001\u0000\u0000\u0000@\u01be\u0001\u0000\u0000\u0000B\u01ce\u0001\u0000"+
+		"\u0000\u0000D\u01e1\u0001\u0000\u0000\u0000F\u01e3\u0001\u0000\u0000\u0000"+
+		"H\u0203\u0001\u0000\u0000\u0000J\u020b\u0001\u0000\u0000\u0000L\u020d"+
+		"\u0001\u0000\u0000\u0000N\u0210\u0001\u0000\u0000\u0000P\u0219\u0001\u0000"+
+		"\u0000\u0000RX\u0006\u0000\uffff\uffff\u0000ST\u0003\u0002\u0001\u0000"+
+		"TU\u0006\u0000\uffff\uffff\u0000UW\u0001\u0000\u0000\u0000VS\u0001\u0000"+
+		"\u0000\u0000WZ\u0001\u0000\u0000\u0000XV\u0001\u0000\u0000\u0000XY\u0001"+
+		"\u0000\u0000\u0000Y[\u0001\u0000\u0000\u0000ZX\u0001\u0000\u0000\u0000"+
+		"[\\\u0003\u0006\u0003\u0000\\]\u0006\u0000\uffff\uffff\u0000]\u0001\u0001"+
+		"\u0000\u0000\u0000^_\u0006\u0001\uffff\uffff\u0000_`\u0005\u0001\u0000"+
+		"\u0000`a\u0003L&\u0000am\u0005\u000b\u0000\u0000bc\u0003\u0004\u0002\u0000"+
+		"cj\u0006\u0001\uffff\uffff\u0000de\u0005\u000e\u0000\u0000ef\u0003\u0004"+
 		"\u0002\u0000fg\u0006\u0001\uffff\uffff\u0000gi\u0001\u0000\u0000\u0000"+
 		"hd\u0001\u0000\u0000\u0000il\u0001\u0000\u0000\u0000jh\u0001\u0000\u0000"+
 		"\u0000jk\u0001\u0000\u0000\u0000kn\u0001\u0000\u0000\u0000lj\u0001\u0000"+
@@ -3500,233 +3502,233 @@ public class LogicPLParser extends Parser {
 		"\uffff\uffff\u0000|\u0003\u0001\u0000\u0000\u0000}~\u0003P(\u0000~\u007f"+
 		"\u0003L&\u0000\u007f\u0080\u0006\u0002\uffff\uffff\u0000\u0080\u0005\u0001"+
 		"\u0000\u0000\u0000\u0081\u0082\u0006\u0003\uffff\uffff\u0000\u0082\u0083"+
-		"\u0005\u0005\u0000\u0000\u0083\u008c\u0005\u000f\u0000\u0000\u0084\u0085"+
-		"\u0003\b\u0004\u0000\u0085\u0086\u0006\u0003\uffff\uffff\u0000\u0086\u008b"+
+		"\u0005\u0005\u0000\u0000\u0083\u008d\u0005\u000f\u0000\u0000\u0084\u0085"+
+		"\u0003\b\u0004\u0000\u0085\u0086\u0006\u0003\uffff\uffff\u0000\u0086\u008c"+
 		"\u0001\u0000\u0000\u0000\u0087\u0088\u0003F#\u0000\u0088\u0089\u0005\u0011"+
-		"\u0000\u0000\u0089\u008b\u0001\u0000\u0000\u0000\u008a\u0084\u0001\u0000"+
-		"\u0000\u0000\u008a\u0087\u0001\u0000\u0000\u0000\u008b\u008e\u0001\u0000"+
-		"\u0000\u0000\u008c\u008a\u0001\u0000\u0000\u0000\u008c\u008d\u0001\u0000"+
-		"\u0000\u0000\u008d\u008f\u0001\u0000\u0000\u0000\u008e\u008c\u0001\u0000"+
-		"\u0000\u0000\u008f\u0090\u0005\u0010\u0000\u0000\u0090\u0091\u0006\u0003"+
-		"\uffff\uffff\u0000\u0091\u0007\u0001\u0000\u0000\u0000\u0092\u0093\u0003"+
-		"\n\u0005\u0000\u0093\u0094\u0006\u0004\uffff\uffff\u0000\u0094\u00a9\u0001"+
-		"\u0000\u0000\u0000\u0095\u0096\u0003&\u0013\u0000\u0096\u0097\u0005\u0011"+
-		"\u0000\u0000\u0097\u0098\u0006\u0004\uffff\uffff\u0000\u0098\u00a9\u0001"+
-		"\u0000\u0000\u0000\u0099\u009a\u0003(\u0014\u0000\u009a\u009b\u0006\u0004"+
-		"\uffff\uffff\u0000\u009b\u00a9\u0001\u0000\u0000\u0000\u009c\u009d\u0003"+
-		"\"\u0011\u0000\u009d\u009e\u0006\u0004\uffff\uffff\u0000\u009e\u00a9\u0001"+
-		"\u0000\u0000\u0000\u009f\u00a0\u0003\u0018\f\u0000\u00a0\u00a1\u0006\u0004"+
-		"\uffff\uffff\u0000\u00a1\u00a9\u0001\u0000\u0000\u0000\u00a2\u00a3\u0003"+
-		"$\u0012\u0000\u00a3\u00a4\u0006\u0004\uffff\uffff\u0000\u00a4\u00a9\u0001"+
-		"\u0000\u0000\u0000\u00a5\u00a6\u0003\u000e\u0007\u0000\u00a6\u00a7\u0006"+
-		"\u0004\uffff\uffff\u0000\u00a7\u00a9\u0001\u0000\u0000\u0000\u00a8\u0092"+
-		"\u0001\u0000\u0000\u0000\u00a8\u0095\u0001\u0000\u0000\u0000\u00a8\u0099"+
-		"\u0001\u0000\u0000\u0000\u00a8\u009c\u0001\u0000\u0000\u0000\u00a8\u009f"+
-		"\u0001\u0000\u0000\u0000\u00a8\u00a2\u0001\u0000\u0000\u0000\u00a8\u00a5"+
-		"\u0001\u0000\u0000\u0000\u00a9\t\u0001\u0000\u0000\u0000\u00aa\u00ab\u0003"+
-		"\f\u0006\u0000\u00ab\u00ac\u0005\u0012\u0000\u0000\u00ac\u00ad\u0003*"+
-		"\u0015\u0000\u00ad\u00ae\u0005\u0011\u0000\u0000\u00ae\u00af\u0006\u0005"+
-		"\uffff\uffff\u0000\u00af\u000b\u0001\u0000\u0000\u0000\u00b0\u00b1\u0003"+
-		"L&\u0000\u00b1\u00b2\u0006\u0006\uffff\uffff\u0000\u00b2\u00ba\u0001\u0000"+
-		"\u0000\u0000\u00b3\u00b4\u0003L&\u0000\u00b4\u00b5\u0005\u0013\u0000\u0000"+
-		"\u00b5\u00b6\u0003*\u0015\u0000\u00b6\u00b7\u0005\u0014\u0000\u0000\u00b7"+
-		"\u00b8\u0006\u0006\uffff\uffff\u0000\u00b8\u00ba\u0001\u0000\u0000\u0000"+
-		"\u00b9\u00b0\u0001\u0000\u0000\u0000\u00b9\u00b3\u0001\u0000\u0000\u0000"+
-		"\u00ba\r\u0001\u0000\u0000\u0000\u00bb\u00bc\u0003\u0010\b\u0000\u00bc"+
-		"\u00bd\u0006\u0007\uffff\uffff\u0000\u00bd\u00c2\u0001\u0000\u0000\u0000"+
-		"\u00be\u00bf\u0003\u0012\t\u0000\u00bf\u00c0\u0006\u0007\uffff\uffff\u0000"+
-		"\u00c0\u00c2\u0001\u0000\u0000\u0000\u00c1\u00bb\u0001\u0000\u0000\u0000"+
-		"\u00c1\u00be\u0001\u0000\u0000\u0000\u00c2\u000f\u0001\u0000\u0000\u0000"+
-		"\u00c3\u00c4\u0003P(\u0000\u00c4\u00c5\u0003L&\u0000\u00c5\u00ca\u0006"+
-		"\b\uffff\uffff\u0000\u00c6\u00c7\u0005\u0012\u0000\u0000\u00c7\u00c8\u0003"+
-		"*\u0015\u0000\u00c8\u00c9\u0006\b\uffff\uffff\u0000\u00c9\u00cb\u0001"+
-		"\u0000\u0000\u0000\u00ca\u00c6\u0001\u0000\u0000\u0000\u00ca\u00cb\u0001"+
-		"\u0000\u0000\u0000\u00cb\u00cc\u0001\u0000\u0000\u0000\u00cc\u00cd\u0005"+
-		"\u0011\u0000\u0000\u00cd\u0011\u0001\u0000\u0000\u0000\u00ce\u00cf\u0003"+
-		"P(\u0000\u00cf\u00d0\u0005\u0013\u0000\u0000\u00d0\u00d1\u0005)\u0000"+
-		"\u0000\u00d1\u00d2\u0005\u0014\u0000\u0000\u00d2\u00d3\u0003L&\u0000\u00d3"+
-		"\u00d7\u0006\t\uffff\uffff\u0000\u00d4\u00d5\u0003\u0014\n\u0000\u00d5"+
-		"\u00d6\u0006\t\uffff\uffff\u0000\u00d6\u00d8\u0001\u0000\u0000\u0000\u00d7"+
-		"\u00d4\u0001\u0000\u0000\u0000\u00d7\u00d8\u0001\u0000\u0000\u0000\u00d8"+
-		"\u00d9\u0001\u0000\u0000\u0000\u00d9\u00da\u0005\u0011\u0000\u0000\u00da"+
-		"\u0013\u0001\u0000\u0000\u0000\u00db\u00dc\u0005\u0012\u0000\u0000\u00dc"+
-		"\u00dd\u0003\u0016\u000b\u0000\u00dd\u00de\u0006\n\uffff\uffff\u0000\u00de"+
-		"\u0015\u0001\u0000\u0000\u0000\u00df\u00e0\u0006\u000b\uffff\uffff\u0000"+
-		"\u00e0\u00e7\u0005\u0013\u0000\u0000\u00e1\u00e2\u0003H$\u0000\u00e2\u00e3"+
-		"\u0006\u000b\uffff\uffff\u0000\u00e3\u00e8\u0001\u0000\u0000\u0000\u00e4"+
-		"\u00e5\u0003L&\u0000\u00e5\u00e6\u0006\u000b\uffff\uffff\u0000\u00e6\u00e8"+
-		"\u0001\u0000\u0000\u0000\u00e7\u00e1\u0001\u0000\u0000\u0000\u00e7\u00e4"+
-		"\u0001\u0000\u0000\u0000\u00e8\u00f4\u0001\u0000\u0000\u0000\u00e9\u00f0"+
-		"\u0005\u000e\u0000\u0000\u00ea\u00eb\u0003H$\u0000\u00eb\u00ec\u0006\u000b"+
-		"\uffff\uffff\u0000\u00ec\u00f1\u0001\u0000\u0000\u0000\u00ed\u00ee\u0003"+
-		"L&\u0000\u00ee\u00ef\u0006\u000b\uffff\uffff\u0000\u00ef\u00f1\u0001\u0000"+
-		"\u0000\u0000\u00f0\u00ea\u0001\u0000\u0000\u0000\u00f0\u00ed\u0001\u0000"+
-		"\u0000\u0000\u00f1\u00f3\u0001\u0000\u0000\u0000\u00f2\u00e9\u0001\u0000"+
-		"\u0000\u0000\u00f3\u00f6\u0001\u0000\u0000\u0000\u00f4\u00f2\u0001\u0000"+
-		"\u0000\u0000\u00f4\u00f5\u0001\u0000\u0000\u0000\u00f5\u00f7\u0001\u0000"+
-		"\u0000\u0000\u00f6\u00f4\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0014"+
-		"\u0000\u0000\u00f8\u0017\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005\u0006"+
-		"\u0000\u0000\u00fa\u00fb\u0005\u000b\u0000\u0000\u00fb\u00fc\u0003\u001a"+
-		"\r\u0000\u00fc\u00fd\u0005\f\u0000\u0000\u00fd\u00fe\u0005\u0011\u0000"+
-		"\u0000\u00fe\u00ff\u0006\f\uffff\uffff\u0000\u00ff\u0019\u0001\u0000\u0000"+
-		"\u0000\u0100\u0101\u0003\f\u0006\u0000\u0101\u0102\u0006\r\uffff\uffff"+
-		"\u0000\u0102\u0107\u0001\u0000\u0000\u0000\u0103\u0104\u0003\u001c\u000e"+
-		"\u0000\u0104\u0105\u0006\r\uffff\uffff\u0000\u0105\u0107\u0001\u0000\u0000"+
-		"\u0000\u0106\u0100\u0001\u0000\u0000\u0000\u0106\u0103\u0001\u0000\u0000"+
-		"\u0000\u0107\u001b\u0001\u0000\u0000\u0000\u0108\u0109\u0003\u001e\u000f"+
-		"\u0000\u0109\u010a\u0006\u000e\uffff\uffff\u0000\u010a\u010f\u0001\u0000"+
-		"\u0000\u0000\u010b\u010c\u0003 \u0010\u0000\u010c\u010d\u0006\u000e\uffff"+
-		"\uffff\u0000\u010d\u010f\u0001\u0000\u0000\u0000\u010e\u0108\u0001\u0000"+
-		"\u0000\u0000\u010e\u010b\u0001\u0000\u0000\u0000\u010f\u001d\u0001\u0000"+
-		"\u0000\u0000\u0110\u0111\u0005\u0013\u0000\u0000\u0111\u0112\u0005\u0015"+
-		"\u0000\u0000\u0112\u0113\u0003N\'\u0000\u0113\u0114\u0005\u000b\u0000"+
-		"\u0000\u0114\u0115\u0003\f\u0006\u0000\u0115\u0116\u0005\f\u0000\u0000"+
-		"\u0116\u0117\u0005\u0014\u0000\u0000\u0117\u0118\u0006\u000f\uffff\uffff"+
-		"\u0000\u0118\u001f\u0001\u0000\u0000\u0000\u0119\u011a\u0005\u0013\u0000"+
-		"\u0000\u011a\u011b\u0003N\'\u0000\u011b\u011c\u0005\u000b\u0000\u0000"+
-		"\u011c\u011d\u0005\u0015\u0000\u0000\u011d\u011e\u0005\f\u0000\u0000\u011e"+
-		"\u011f\u0005\u0014\u0000\u0000\u011f\u0120\u0006\u0010\uffff\uffff\u0000"+
-		"\u0120!\u0001\u0000\u0000\u0000\u0121\u0128\u0005\u0007\u0000\u0000\u0122"+
-		"\u0123\u0003H$\u0000\u0123\u0124\u0006\u0011\uffff\uffff\u0000\u0124\u0129"+
-		"\u0001\u0000\u0000\u0000\u0125\u0126\u0003L&\u0000\u0126\u0127\u0006\u0011"+
-		"\uffff\uffff\u0000\u0127\u0129\u0001\u0000\u0000\u0000\u0128\u0122\u0001"+
-		"\u0000\u0000\u0000\u0128\u0125\u0001\u0000\u0000\u0000\u0128\u0129\u0001"+
-		"\u0000\u0000\u0000\u0129\u012a\u0001\u0000\u0000\u0000\u012a\u012b\u0005"+
-		"\u0011\u0000\u0000\u012b\u012c\u0006\u0011\uffff\uffff\u0000\u012c\u012d"+
-		"\u0006\u0011\uffff\uffff\u0000\u012d#\u0001\u0000\u0000\u0000\u012e\u012f"+
-		"\u0006\u0012\uffff\uffff\u0000\u012f\u0130\u0005\b\u0000\u0000\u0130\u0131"+
-		"\u0005\u000b\u0000\u0000\u0131\u0132\u0003L&\u0000\u0132\u0133\u0005\r"+
-		"\u0000\u0000\u0133\u0134\u0003L&\u0000\u0134\u0135\u0005\f\u0000\u0000"+
-		"\u0135\u013b\u0005\u000f\u0000\u0000\u0136\u0137\u0003\b\u0004\u0000\u0137"+
-		"\u0138\u0006\u0012\uffff\uffff\u0000\u0138\u013a\u0001\u0000\u0000\u0000"+
-		"\u0139\u0136\u0001\u0000\u0000\u0000\u013a\u013d\u0001\u0000\u0000\u0000"+
-		"\u013b\u0139\u0001\u0000\u0000\u0000\u013b\u013c\u0001\u0000\u0000\u0000"+
-		"\u013c\u013e\u0001\u0000\u0000\u0000\u013d\u013b\u0001\u0000\u0000\u0000"+
-		"\u013e\u013f\u0005\u0010\u0000\u0000\u013f\u0140\u0006\u0012\uffff\uffff"+
-		"\u0000\u0140%\u0001\u0000\u0000\u0000\u0141\u0142\u0003N\'\u0000\u0142"+
-		"\u0143\u0005\u000b\u0000\u0000\u0143\u0144\u0003\f\u0006\u0000\u0144\u0145"+
-		"\u0005\f\u0000\u0000\u0145\u0146\u0006\u0013\uffff\uffff\u0000\u0146\'"+
-		"\u0001\u0000\u0000\u0000\u0147\u0148\u0006\u0014\uffff\uffff\u0000\u0148"+
-		"\u0149\u0005\u000b\u0000\u0000\u0149\u014a\u0003*\u0015\u0000\u014a\u014b"+
-		"\u0005\f\u0000\u0000\u014b\u014c\u0005\u0016\u0000\u0000\u014c\u0150\u0005"+
-		"\u000b\u0000\u0000\u014d\u014e\u0003\b\u0004\u0000\u014e\u014f\u0006\u0014"+
-		"\uffff\uffff\u0000\u014f\u0151\u0001\u0000\u0000\u0000\u0150\u014d\u0001"+
-		"\u0000\u0000\u0000\u0151\u0152\u0001\u0000\u0000\u0000\u0152\u0150\u0001"+
-		"\u0000\u0000\u0000\u0152\u0153\u0001\u0000\u0000\u0000\u0153\u0154\u0001"+
-		"\u0000\u0000\u0000\u0154\u0155\u0005\f\u0000\u0000\u0155\u0156\u0006\u0014"+
-		"\uffff\uffff\u0000\u0156)\u0001\u0000\u0000\u0000\u0157\u0158\u0003.\u0017"+
-		"\u0000\u0158\u0159\u0003,\u0016\u0000\u0159\u015a\u0006\u0015\uffff\uffff"+
-		"\u0000\u015a+\u0001\u0000\u0000\u0000\u015b\u015c\u0005\u0017\u0000\u0000"+
-		"\u015c\u015d\u0003.\u0017\u0000\u015d\u015e\u0003,\u0016\u0000\u015e\u015f"+
-		"\u0006\u0016\uffff\uffff\u0000\u015f\u0160\u0006\u0016\uffff\uffff\u0000"+
-		"\u0160\u0163\u0001\u0000\u0000\u0000\u0161\u0163\u0006\u0016\uffff\uffff"+
-		"\u0000\u0162\u015b\u0001\u0000\u0000\u0000\u0162\u0161\u0001\u0000\u0000"+
-		"\u0000\u0163-\u0001\u0000\u0000\u0000\u0164\u0165\u00032\u0019\u0000\u0165"+
-		"\u0166\u00030\u0018\u0000\u0166\u0167\u0006\u0017\uffff\uffff\u0000\u0167"+
-		"/\u0001\u0000\u0000\u0000\u0168\u0169\u0005\u0018\u0000\u0000\u0169\u016a"+
-		"\u00032\u0019\u0000\u016a\u016b\u00030\u0018\u0000\u016b\u016c\u0006\u0018"+
-		"\uffff\uffff\u0000\u016c\u016d\u0006\u0018\uffff\uffff\u0000\u016d\u0170"+
-		"\u0001\u0000\u0000\u0000\u016e\u0170\u0006\u0018\uffff\uffff\u0000\u016f"+
-		"\u0168\u0001\u0000\u0000\u0000\u016f\u016e\u0001\u0000\u0000\u0000\u0170"+
-		"1\u0001\u0000\u0000\u0000\u0171\u0172\u00036\u001b\u0000\u0172\u0173\u0003"+
-		"4\u001a\u0000\u0173\u0174\u0006\u0019\uffff\uffff\u0000\u01743\u0001\u0000"+
-		"\u0000\u0000\u0175\u0176\u0005\u0019\u0000\u0000\u0176\u017a\u0006\u001a"+
-		"\uffff\uffff\u0000\u0177\u0178\u0005#\u0000\u0000\u0178\u017a\u0006\u001a"+
-		"\uffff\uffff\u0000\u0179\u0175\u0001\u0000\u0000\u0000\u0179\u0177\u0001"+
-		"\u0000\u0000\u0000\u017a\u017b\u0001\u0000\u0000\u0000\u017b\u017c\u0003"+
-		"6\u001b\u0000\u017c\u017d\u00034\u001a\u0000\u017d\u017e\u0006\u001a\uffff"+
-		"\uffff\u0000\u017e\u017f\u0006\u001a\uffff\uffff\u0000\u017f\u0182\u0001"+
-		"\u0000\u0000\u0000\u0180\u0182\u0006\u001a\uffff\uffff\u0000\u0181\u0179"+
-		"\u0001\u0000\u0000\u0000\u0181\u0180\u0001\u0000\u0000\u0000\u01825\u0001"+
-		"\u0000\u0000\u0000\u0183\u0184\u0003:\u001d\u0000\u0184\u0185\u00038\u001c"+
-		"\u0000\u0185\u0186\u0006\u001b\uffff\uffff\u0000\u01867\u0001\u0000\u0000"+
-		"\u0000\u0187\u0188\u0005\u001b\u0000\u0000\u0188\u0190\u0006\u001c\uffff"+
-		"\uffff\u0000\u0189\u018a\u0005\u001d\u0000\u0000\u018a\u0190\u0006\u001c"+
-		"\uffff\uffff\u0000\u018b\u018c\u0005\u001a\u0000\u0000\u018c\u0190\u0006"+
-		"\u001c\uffff\uffff\u0000\u018d\u018e\u0005\u001c\u0000\u0000\u018e\u0190"+
-		"\u0006\u001c\uffff\uffff\u0000\u018f\u0187\u0001\u0000\u0000\u0000\u018f"+
-		"\u0189\u0001\u0000\u0000\u0000\u018f\u018b\u0001\u0000\u0000\u0000\u018f"+
-		"\u018d\u0001\u0000\u0000\u0000\u0190\u0191\u0001\u0000\u0000\u0000\u0191"+
-		"\u0192\u0003:\u001d\u0000\u0192\u0193\u00038\u001c\u0000\u0193\u0194\u0006"+
-		"\u001c\uffff\uffff\u0000\u0194\u0195\u0006\u001c\uffff\uffff\u0000\u0195"+
-		"\u0198\u0001\u0000\u0000\u0000\u0196\u0198\u0006\u001c\uffff\uffff\u0000"+
-		"\u0197\u018f\u0001\u0000\u0000\u0000\u0197\u0196\u0001\u0000\u0000\u0000"+
-		"\u01989\u0001\u0000\u0000\u0000\u0199\u019a\u0003>\u001f\u0000\u019a\u019b"+
-		"\u0003<\u001e\u0000\u019b\u019c\u0006\u001d\uffff\uffff\u0000\u019c;\u0001"+
-		"\u0000\u0000\u0000\u019d\u019e\u0005\u001e\u0000\u0000\u019e\u01a2\u0006"+
-		"\u001e\uffff\uffff\u0000\u019f\u01a0\u0005\u001f\u0000\u0000\u01a0\u01a2"+
-		"\u0006\u001e\uffff\uffff\u0000\u01a1\u019d\u0001\u0000\u0000\u0000\u01a1"+
-		"\u019f\u0001\u0000\u0000\u0000\u01a2\u01a3\u0001\u0000\u0000\u0000\u01a3"+
-		"\u01a4\u0003>\u001f\u0000\u01a4\u01a5\u0003<\u001e\u0000\u01a5\u01a6\u0006"+
-		"\u001e\uffff\uffff\u0000\u01a6\u01a7\u0006\u001e\uffff\uffff\u0000\u01a7"+
-		"\u01aa\u0001\u0000\u0000\u0000\u01a8\u01aa\u0006\u001e\uffff\uffff\u0000"+
-		"\u01a9\u01a1\u0001\u0000\u0000\u0000\u01a9\u01a8\u0001\u0000\u0000\u0000"+
-		"\u01aa=\u0001\u0000\u0000\u0000\u01ab\u01ac\u0003B!\u0000\u01ac\u01ad"+
-		"\u0003@ \u0000\u01ad\u01ae\u0006\u001f\uffff\uffff\u0000\u01ae?\u0001"+
-		"\u0000\u0000\u0000\u01af\u01b0\u0005 \u0000\u0000\u01b0\u01b6\u0006 \uffff"+
-		"\uffff\u0000\u01b1\u01b2\u0005\"\u0000\u0000\u01b2\u01b6\u0006 \uffff"+
-		"\uffff\u0000\u01b3\u01b4\u0005!\u0000\u0000\u01b4\u01b6\u0006 \uffff\uffff"+
-		"\u0000\u01b5\u01af\u0001\u0000\u0000\u0000\u01b5\u01b1\u0001\u0000\u0000"+
-		"\u0000\u01b5\u01b3\u0001\u0000\u0000\u0000\u01b6\u01b7\u0001\u0000\u0000"+
-		"\u0000\u01b7\u01b8\u0003B!\u0000\u01b8\u01b9\u0003@ \u0000\u01b9\u01ba"+
-		"\u0006 \uffff\uffff\u0000\u01ba\u01bb\u0006 \uffff\uffff\u0000\u01bb\u01be"+
-		"\u0001\u0000\u0000\u0000\u01bc\u01be\u0006 \uffff\uffff\u0000\u01bd\u01b5"+
-		"\u0001\u0000\u0000\u0000\u01bd\u01bc\u0001\u0000\u0000\u0000\u01beA\u0001"+
-		"\u0000\u0000\u0000\u01bf\u01c0\u0003D\"\u0000\u01c0\u01c1\u0006!\uffff"+
-		"\uffff\u0000\u01c1\u01ce\u0001\u0000\u0000\u0000\u01c2\u01c3\u0005\u001e"+
-		"\u0000\u0000\u01c3\u01c9\u0006!\uffff\uffff\u0000\u01c4\u01c5\u0005\u001f"+
-		"\u0000\u0000\u01c5\u01c9\u0006!\uffff\uffff\u0000\u01c6\u01c7\u0005$\u0000"+
-		"\u0000\u01c7\u01c9\u0006!\uffff\uffff\u0000\u01c8\u01c2\u0001\u0000\u0000"+
-		"\u0000\u01c8\u01c4\u0001\u0000\u0000\u0000\u01c8\u01c6\u0001\u0000\u0000"+
-		"\u0000\u01c9\u01ca\u0001\u0000\u0000\u0000\u01ca\u01cb\u0003D\"\u0000"+
-		"\u01cb\u01cc\u0006!\uffff\uffff\u0000\u01cc\u01ce\u0001\u0000\u0000\u0000"+
-		"\u01cd\u01bf\u0001\u0000\u0000\u0000\u01cd\u01c8\u0001\u0000\u0000\u0000"+
-		"\u01ceC\u0001\u0000\u0000\u0000\u01cf\u01d0\u0005\u000b\u0000\u0000\u01d0"+
-		"\u01d1\u0003*\u0015\u0000\u01d1\u01d2\u0005\f\u0000\u0000\u01d2\u01d3"+
-		"\u0006\"\uffff\uffff\u0000\u01d3\u01e1\u0001\u0000\u0000\u0000\u01d4\u01d5"+
-		"\u0003\f\u0006\u0000\u01d5\u01d6\u0006\"\uffff\uffff\u0000\u01d6\u01e1"+
-		"\u0001\u0000\u0000\u0000\u01d7\u01d8\u0003H$\u0000\u01d8\u01d9\u0006\""+
-		"\uffff\uffff\u0000\u01d9\u01e1\u0001\u0000\u0000\u0000\u01da\u01db\u0003"+
-		"\u001e\u000f\u0000\u01db\u01dc\u0006\"\uffff\uffff\u0000\u01dc\u01e1\u0001"+
-		"\u0000\u0000\u0000\u01dd\u01de\u0003F#\u0000\u01de\u01df\u0006\"\uffff"+
-		"\uffff\u0000\u01df\u01e1\u0001\u0000\u0000\u0000\u01e0\u01cf\u0001\u0000"+
-		"\u0000\u0000\u01e0\u01d4\u0001\u0000\u0000\u0000\u01e0\u01d7\u0001\u0000"+
-		"\u0000\u0000\u01e0\u01da\u0001\u0000\u0000\u0000\u01e0\u01dd\u0001\u0000"+
-		"\u0000\u0000\u01e1E\u0001\u0000\u0000\u0000\u01e2\u01e3\u0006#\uffff\uffff"+
-		"\u0000\u01e3\u01e4\u0003L&\u0000\u01e4\u01f0\u0005\u000b\u0000\u0000\u01e5"+
-		"\u01e6\u0003*\u0015\u0000\u01e6\u01ed\u0006#\uffff\uffff\u0000\u01e7\u01e8"+
-		"\u0005\u000e\u0000\u0000\u01e8\u01e9\u0003*\u0015\u0000\u01e9\u01ea\u0006"+
-		"#\uffff\uffff\u0000\u01ea\u01ec\u0001\u0000\u0000\u0000\u01eb\u01e7\u0001"+
-		"\u0000\u0000\u0000\u01ec\u01ef\u0001\u0000\u0000\u0000\u01ed\u01eb\u0001"+
-		"\u0000\u0000\u0000\u01ed\u01ee\u0001\u0000\u0000\u0000\u01ee\u01f1\u0001"+
-		"\u0000\u0000\u0000\u01ef\u01ed\u0001\u0000\u0000\u0000\u01f0\u01e5\u0001"+
-		"\u0000\u0000\u0000\u01f0\u01f1\u0001\u0000\u0000\u0000\u01f1\u01f2\u0001"+
-		"\u0000\u0000\u0000\u01f2\u01f3\u0005\f\u0000\u0000\u01f3\u01f4\u0006#"+
-		"\uffff\uffff\u0000\u01f4G\u0001\u0000\u0000\u0000\u01f5\u01f6\u0003J%"+
-		"\u0000\u01f6\u01f7\u0006$\uffff\uffff\u0000\u01f7\u0203\u0001\u0000\u0000"+
-		"\u0000\u01f8\u01f9\u0005\t\u0000\u0000\u01f9\u01fa\u0006$\uffff\uffff"+
-		"\u0000\u01fa\u0203\u0006$\uffff\uffff\u0000\u01fb\u01fc\u0005\n\u0000"+
-		"\u0000\u01fc\u01fd\u0006$\uffff\uffff\u0000\u01fd\u0203\u0006$\uffff\uffff"+
-		"\u0000\u01fe\u01ff\u0005\u001f\u0000\u0000\u01ff\u0200\u0003J%\u0000\u0200"+
-		"\u0201\u0006$\uffff\uffff\u0000\u0201\u0203\u0001\u0000\u0000\u0000\u0202"+
-		"\u01f5\u0001\u0000\u0000\u0000\u0202\u01f8\u0001\u0000\u0000\u0000\u0202"+
-		"\u01fb\u0001\u0000\u0000\u0000\u0202\u01fe\u0001\u0000\u0000\u0000\u0203"+
-		"I\u0001\u0000\u0000\u0000\u0204\u0205\u0005)\u0000\u0000\u0205\u0206\u0006"+
-		"%\uffff\uffff\u0000\u0206\u020b\u0006%\uffff\uffff\u0000\u0207\u0208\u0005"+
-		"*\u0000\u0000\u0208\u0209\u0006%\uffff\uffff\u0000\u0209\u020b\u0006%"+
-		"\uffff\uffff\u0000\u020a\u0204\u0001\u0000\u0000\u0000\u020a\u0207\u0001"+
-		"\u0000\u0000\u0000\u020bK\u0001\u0000\u0000\u0000\u020c\u020d\u0005\'"+
-		"\u0000\u0000\u020d\u020e\u0006&\uffff\uffff\u0000\u020eM\u0001\u0000\u0000"+
-		"\u0000\u020f\u0210\u0005(\u0000\u0000\u0210\u0211\u0006\'\uffff\uffff"+
-		"\u0000\u0211O\u0001\u0000\u0000\u0000\u0212\u0213\u0005\u0002\u0000\u0000"+
-		"\u0213\u0219\u0006(\uffff\uffff\u0000\u0214\u0215\u0005\u0003\u0000\u0000"+
-		"\u0215\u0219\u0006(\uffff\uffff\u0000\u0216\u0217\u0005\u0004\u0000\u0000"+
-		"\u0217\u0219\u0006(\uffff\uffff\u0000\u0218\u0212\u0001\u0000\u0000\u0000"+
-		"\u0218\u0214\u0001\u0000\u0000\u0000\u0218\u0216\u0001\u0000\u0000\u0000"+
-		"\u0219Q\u0001\u0000\u0000\u0000%Xjmx\u008a\u008c\u00a8\u00b9\u00c1\u00ca"+
-		"\u00d7\u00e7\u00f0\u00f4\u0106\u010e\u0128\u013b\u0152\u0162\u016f\u0179"+
-		"\u0181\u018f\u0197\u01a1\u01a9\u01b5\u01bd\u01c8\u01cd\u01e0\u01ed\u01f0"+
-		"\u0202\u020a\u0218";
+		"\u0000\u0000\u0089\u008a\u0006\u0003\uffff\uffff\u0000\u008a\u008c\u0001"+
+		"\u0000\u0000\u0000\u008b\u0084\u0001\u0000\u0000\u0000\u008b\u0087\u0001"+
+		"\u0000\u0000\u0000\u008c\u008f\u0001\u0000\u0000\u0000\u008d\u008b\u0001"+
+		"\u0000\u0000\u0000\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u0090\u0001"+
+		"\u0000\u0000\u0000\u008f\u008d\u0001\u0000\u0000\u0000\u0090\u0091\u0005"+
+		"\u0010\u0000\u0000\u0091\u0092\u0006\u0003\uffff\uffff\u0000\u0092\u0007"+
+		"\u0001\u0000\u0000\u0000\u0093\u0094\u0003\n\u0005\u0000\u0094\u0095\u0006"+
+		"\u0004\uffff\uffff\u0000\u0095\u00aa\u0001\u0000\u0000\u0000\u0096\u0097"+
+		"\u0003&\u0013\u0000\u0097\u0098\u0005\u0011\u0000\u0000\u0098\u0099\u0006"+
+		"\u0004\uffff\uffff\u0000\u0099\u00aa\u0001\u0000\u0000\u0000\u009a\u009b"+
+		"\u0003(\u0014\u0000\u009b\u009c\u0006\u0004\uffff\uffff\u0000\u009c\u00aa"+
+		"\u0001\u0000\u0000\u0000\u009d\u009e\u0003\"\u0011\u0000\u009e\u009f\u0006"+
+		"\u0004\uffff\uffff\u0000\u009f\u00aa\u0001\u0000\u0000\u0000\u00a0\u00a1"+
+		"\u0003\u0018\f\u0000\u00a1\u00a2\u0006\u0004\uffff\uffff\u0000\u00a2\u00aa"+
+		"\u0001\u0000\u0000\u0000\u00a3\u00a4\u0003$\u0012\u0000\u00a4\u00a5\u0006"+
+		"\u0004\uffff\uffff\u0000\u00a5\u00aa\u0001\u0000\u0000\u0000\u00a6\u00a7"+
+		"\u0003\u000e\u0007\u0000\u00a7\u00a8\u0006\u0004\uffff\uffff\u0000\u00a8"+
+		"\u00aa\u0001\u0000\u0000\u0000\u00a9\u0093\u0001\u0000\u0000\u0000\u00a9"+
+		"\u0096\u0001\u0000\u0000\u0000\u00a9\u009a\u0001\u0000\u0000\u0000\u00a9"+
+		"\u009d\u0001\u0000\u0000\u0000\u00a9\u00a0\u0001\u0000\u0000\u0000\u00a9"+
+		"\u00a3\u0001\u0000\u0000\u0000\u00a9\u00a6\u0001\u0000\u0000\u0000\u00aa"+
+		"\t\u0001\u0000\u0000\u0000\u00ab\u00ac\u0003\f\u0006\u0000\u00ac\u00ad"+
+		"\u0005\u0012\u0000\u0000\u00ad\u00ae\u0003*\u0015\u0000\u00ae\u00af\u0005"+
+		"\u0011\u0000\u0000\u00af\u00b0\u0006\u0005\uffff\uffff\u0000\u00b0\u000b"+
+		"\u0001\u0000\u0000\u0000\u00b1\u00b2\u0003L&\u0000\u00b2\u00b3\u0006\u0006"+
+		"\uffff\uffff\u0000\u00b3\u00bb\u0001\u0000\u0000\u0000\u00b4\u00b5\u0003"+
+		"L&\u0000\u00b5\u00b6\u0005\u0013\u0000\u0000\u00b6\u00b7\u0003*\u0015"+
+		"\u0000\u00b7\u00b8\u0005\u0014\u0000\u0000\u00b8\u00b9\u0006\u0006\uffff"+
+		"\uffff\u0000\u00b9\u00bb\u0001\u0000\u0000\u0000\u00ba\u00b1\u0001\u0000"+
+		"\u0000\u0000\u00ba\u00b4\u0001\u0000\u0000\u0000\u00bb\r\u0001\u0000\u0000"+
+		"\u0000\u00bc\u00bd\u0003\u0010\b\u0000\u00bd\u00be\u0006\u0007\uffff\uffff"+
+		"\u0000\u00be\u00c3\u0001\u0000\u0000\u0000\u00bf\u00c0\u0003\u0012\t\u0000"+
+		"\u00c0\u00c1\u0006\u0007\uffff\uffff\u0000\u00c1\u00c3\u0001\u0000\u0000"+
+		"\u0000\u00c2\u00bc\u0001\u0000\u0000\u0000\u00c2\u00bf\u0001\u0000\u0000"+
+		"\u0000\u00c3\u000f\u0001\u0000\u0000\u0000\u00c4\u00c5\u0003P(\u0000\u00c5"+
+		"\u00c6\u0003L&\u0000\u00c6\u00cb\u0006\b\uffff\uffff\u0000\u00c7\u00c8"+
+		"\u0005\u0012\u0000\u0000\u00c8\u00c9\u0003*\u0015\u0000\u00c9\u00ca\u0006"+
+		"\b\uffff\uffff\u0000\u00ca\u00cc\u0001\u0000\u0000\u0000\u00cb\u00c7\u0001"+
+		"\u0000\u0000\u0000\u00cb\u00cc\u0001\u0000\u0000\u0000\u00cc\u00cd\u0001"+
+		"\u0000\u0000\u0000\u00cd\u00ce\u0005\u0011\u0000\u0000\u00ce\u0011\u0001"+
+		"\u0000\u0000\u0000\u00cf\u00d0\u0003P(\u0000\u00d0\u00d1\u0005\u0013\u0000"+
+		"\u0000\u00d1\u00d2\u0005)\u0000\u0000\u00d2\u00d3\u0005\u0014\u0000\u0000"+
+		"\u00d3\u00d4\u0003L&\u0000\u00d4\u00d8\u0006\t\uffff\uffff\u0000\u00d5"+
+		"\u00d6\u0003\u0014\n\u0000\u00d6\u00d7\u0006\t\uffff\uffff\u0000\u00d7"+
+		"\u00d9\u0001\u0000\u0000\u0000\u00d8\u00d5\u0001\u0000\u0000\u0000\u00d8"+
+		"\u00d9\u0001\u0000\u0000\u0000\u00d9\u00da\u0001\u0000\u0000\u0000\u00da"+
+		"\u00db\u0005\u0011\u0000\u0000\u00db\u0013\u0001\u0000\u0000\u0000\u00dc"+
+		"\u00dd\u0005\u0012\u0000\u0000\u00dd\u00de\u0003\u0016\u000b\u0000\u00de"+
+		"\u00df\u0006\n\uffff\uffff\u0000\u00df\u0015\u0001\u0000\u0000\u0000\u00e0"+
+		"\u00e1\u0006\u000b\uffff\uffff\u0000\u00e1\u00e8\u0005\u0013\u0000\u0000"+
+		"\u00e2\u00e3\u0003H$\u0000\u00e3\u00e4\u0006\u000b\uffff\uffff\u0000\u00e4"+
+		"\u00e9\u0001\u0000\u0000\u0000\u00e5\u00e6\u0003L&\u0000\u00e6\u00e7\u0006"+
+		"\u000b\uffff\uffff\u0000\u00e7\u00e9\u0001\u0000\u0000\u0000\u00e8\u00e2"+
+		"\u0001\u0000\u0000\u0000\u00e8\u00e5\u0001\u0000\u0000\u0000\u00e9\u00f5"+
+		"\u0001\u0000\u0000\u0000\u00ea\u00f1\u0005\u000e\u0000\u0000\u00eb\u00ec"+
+		"\u0003H$\u0000\u00ec\u00ed\u0006\u000b\uffff\uffff\u0000\u00ed\u00f2\u0001"+
+		"\u0000\u0000\u0000\u00ee\u00ef\u0003L&\u0000\u00ef\u00f0\u0006\u000b\uffff"+
+		"\uffff\u0000\u00f0\u00f2\u0001\u0000\u0000\u0000\u00f1\u00eb\u0001\u0000"+
+		"\u0000\u0000\u00f1\u00ee\u0001\u0000\u0000\u0000\u00f2\u00f4\u0001\u0000"+
+		"\u0000\u0000\u00f3\u00ea\u0001\u0000\u0000\u0000\u00f4\u00f7\u0001\u0000"+
+		"\u0000\u0000\u00f5\u00f3\u0001\u0000\u0000\u0000\u00f5\u00f6\u0001\u0000"+
+		"\u0000\u0000\u00f6\u00f8\u0001\u0000\u0000\u0000\u00f7\u00f5\u0001\u0000"+
+		"\u0000\u0000\u00f8\u00f9\u0005\u0014\u0000\u0000\u00f9\u0017\u0001\u0000"+
+		"\u0000\u0000\u00fa\u00fb\u0005\u0006\u0000\u0000\u00fb\u00fc\u0005\u000b"+
+		"\u0000\u0000\u00fc\u00fd\u0003\u001a\r\u0000\u00fd\u00fe\u0005\f\u0000"+
+		"\u0000\u00fe\u00ff\u0005\u0011\u0000\u0000\u00ff\u0100\u0006\f\uffff\uffff"+
+		"\u0000\u0100\u0019\u0001\u0000\u0000\u0000\u0101\u0102\u0003\f\u0006\u0000"+
+		"\u0102\u0103\u0006\r\uffff\uffff\u0000\u0103\u0108\u0001\u0000\u0000\u0000"+
+		"\u0104\u0105\u0003\u001c\u000e\u0000\u0105\u0106\u0006\r\uffff\uffff\u0000"+
+		"\u0106\u0108\u0001\u0000\u0000\u0000\u0107\u0101\u0001\u0000\u0000\u0000"+
+		"\u0107\u0104\u0001\u0000\u0000\u0000\u0108\u001b\u0001\u0000\u0000\u0000"+
+		"\u0109\u010a\u0003\u001e\u000f\u0000\u010a\u010b\u0006\u000e\uffff\uffff"+
+		"\u0000\u010b\u0110\u0001\u0000\u0000\u0000\u010c\u010d\u0003 \u0010\u0000"+
+		"\u010d\u010e\u0006\u000e\uffff\uffff\u0000\u010e\u0110\u0001\u0000\u0000"+
+		"\u0000\u010f\u0109\u0001\u0000\u0000\u0000\u010f\u010c\u0001\u0000\u0000"+
+		"\u0000\u0110\u001d\u0001\u0000\u0000\u0000\u0111\u0112\u0005\u0013\u0000"+
+		"\u0000\u0112\u0113\u0005\u0015\u0000\u0000\u0113\u0114\u0003N\'\u0000"+
+		"\u0114\u0115\u0005\u000b\u0000\u0000\u0115\u0116\u0003\f\u0006\u0000\u0116"+
+		"\u0117\u0005\f\u0000\u0000\u0117\u0118\u0005\u0014\u0000\u0000\u0118\u0119"+
+		"\u0006\u000f\uffff\uffff\u0000\u0119\u001f\u0001\u0000\u0000\u0000\u011a"+
+		"\u011b\u0005\u0013\u0000\u0000\u011b\u011c\u0003N\'\u0000\u011c\u011d"+
+		"\u0005\u000b\u0000\u0000\u011d\u011e\u0005\u0015\u0000\u0000\u011e\u011f"+
+		"\u0005\f\u0000\u0000\u011f\u0120\u0005\u0014\u0000\u0000\u0120\u0121\u0006"+
+		"\u0010\uffff\uffff\u0000\u0121!\u0001\u0000\u0000\u0000\u0122\u0129\u0005"+
+		"\u0007\u0000\u0000\u0123\u0124\u0003H$\u0000\u0124\u0125\u0006\u0011\uffff"+
+		"\uffff\u0000\u0125\u012a\u0001\u0000\u0000\u0000\u0126\u0127\u0003L&\u0000"+
+		"\u0127\u0128\u0006\u0011\uffff\uffff\u0000\u0128\u012a\u0001\u0000\u0000"+
+		"\u0000\u0129\u0123\u0001\u0000\u0000\u0000\u0129\u0126\u0001\u0000\u0000"+
+		"\u0000\u0129\u012a\u0001\u0000\u0000\u0000\u012a\u012b\u0001\u0000\u0000"+
+		"\u0000\u012b\u012c\u0005\u0011\u0000\u0000\u012c\u012d\u0006\u0011\uffff"+
+		"\uffff\u0000\u012d\u012e\u0006\u0011\uffff\uffff\u0000\u012e#\u0001\u0000"+
+		"\u0000\u0000\u012f\u0130\u0006\u0012\uffff\uffff\u0000\u0130\u0131\u0005"+
+		"\b\u0000\u0000\u0131\u0132\u0005\u000b\u0000\u0000\u0132\u0133\u0003L"+
+		"&\u0000\u0133\u0134\u0005\r\u0000\u0000\u0134\u0135\u0003L&\u0000\u0135"+
+		"\u0136\u0005\f\u0000\u0000\u0136\u013c\u0005\u000f\u0000\u0000\u0137\u0138"+
+		"\u0003\b\u0004\u0000\u0138\u0139\u0006\u0012\uffff\uffff\u0000\u0139\u013b"+
+		"\u0001\u0000\u0000\u0000\u013a\u0137\u0001\u0000\u0000\u0000\u013b\u013e"+
+		"\u0001\u0000\u0000\u0000\u013c\u013a\u0001\u0000\u0000\u0000\u013c\u013d"+
+		"\u0001\u0000\u0000\u0000\u013d\u013f\u0001\u0000\u0000\u0000\u013e\u013c"+
+		"\u0001\u0000\u0000\u0000\u013f\u0140\u0005\u0010\u0000\u0000\u0140\u0141"+
+		"\u0006\u0012\uffff\uffff\u0000\u0141%\u0001\u0000\u0000\u0000\u0142\u0143"+
+		"\u0003N\'\u0000\u0143\u0144\u0005\u000b\u0000\u0000\u0144\u0145\u0003"+
+		"\f\u0006\u0000\u0145\u0146\u0005\f\u0000\u0000\u0146\u0147\u0006\u0013"+
+		"\uffff\uffff\u0000\u0147\'\u0001\u0000\u0000\u0000\u0148\u0149\u0006\u0014"+
+		"\uffff\uffff\u0000\u0149\u014a\u0005\u000b\u0000\u0000\u014a\u014b\u0003"+
+		"*\u0015\u0000\u014b\u014c\u0005\f\u0000\u0000\u014c\u014d\u0005\u0016"+
+		"\u0000\u0000\u014d\u0151\u0005\u000b\u0000\u0000\u014e\u014f\u0003\b\u0004"+
+		"\u0000\u014f\u0150\u0006\u0014\uffff\uffff\u0000\u0150\u0152\u0001\u0000"+
+		"\u0000\u0000\u0151\u014e\u0001\u0000\u0000\u0000\u0152\u0153\u0001\u0000"+
+		"\u0000\u0000\u0153\u0151\u0001\u0000\u0000\u0000\u0153\u0154\u0001\u0000"+
+		"\u0000\u0000\u0154\u0155\u0001\u0000\u0000\u0000\u0155\u0156\u0005\f\u0000"+
+		"\u0000\u0156\u0157\u0006\u0014\uffff\uffff\u0000\u0157)\u0001\u0000\u0000"+
+		"\u0000\u0158\u0159\u0003.\u0017\u0000\u0159\u015a\u0003,\u0016\u0000\u015a"+
+		"\u015b\u0006\u0015\uffff\uffff\u0000\u015b+\u0001\u0000\u0000\u0000\u015c"+
+		"\u015d\u0005\u0017\u0000\u0000\u015d\u015e\u0003.\u0017\u0000\u015e\u015f"+
+		"\u0003,\u0016\u0000\u015f\u0160\u0006\u0016\uffff\uffff\u0000\u0160\u0161"+
+		"\u0006\u0016\uffff\uffff\u0000\u0161\u0164\u0001\u0000\u0000\u0000\u0162"+
+		"\u0164\u0006\u0016\uffff\uffff\u0000\u0163\u015c\u0001\u0000\u0000\u0000"+
+		"\u0163\u0162\u0001\u0000\u0000\u0000\u0164-\u0001\u0000\u0000\u0000\u0165"+
+		"\u0166\u00032\u0019\u0000\u0166\u0167\u00030\u0018\u0000\u0167\u0168\u0006"+
+		"\u0017\uffff\uffff\u0000\u0168/\u0001\u0000\u0000\u0000\u0169\u016a\u0005"+
+		"\u0018\u0000\u0000\u016a\u016b\u00032\u0019\u0000\u016b\u016c\u00030\u0018"+
+		"\u0000\u016c\u016d\u0006\u0018\uffff\uffff\u0000\u016d\u016e\u0006\u0018"+
+		"\uffff\uffff\u0000\u016e\u0171\u0001\u0000\u0000\u0000\u016f\u0171\u0006"+
+		"\u0018\uffff\uffff\u0000\u0170\u0169\u0001\u0000\u0000\u0000\u0170\u016f"+
+		"\u0001\u0000\u0000\u0000\u01711\u0001\u0000\u0000\u0000\u0172\u0173\u0003"+
+		"6\u001b\u0000\u0173\u0174\u00034\u001a\u0000\u0174\u0175\u0006\u0019\uffff"+
+		"\uffff\u0000\u01753\u0001\u0000\u0000\u0000\u0176\u0177\u0005\u0019\u0000"+
+		"\u0000\u0177\u017b\u0006\u001a\uffff\uffff\u0000\u0178\u0179\u0005#\u0000"+
+		"\u0000\u0179\u017b\u0006\u001a\uffff\uffff\u0000\u017a\u0176\u0001\u0000"+
+		"\u0000\u0000\u017a\u0178\u0001\u0000\u0000\u0000\u017b\u017c\u0001\u0000"+
+		"\u0000\u0000\u017c\u017d\u00036\u001b\u0000\u017d\u017e\u00034\u001a\u0000"+
+		"\u017e\u017f\u0006\u001a\uffff\uffff\u0000\u017f\u0180\u0006\u001a\uffff"+
+		"\uffff\u0000\u0180\u0183\u0001\u0000\u0000\u0000\u0181\u0183\u0006\u001a"+
+		"\uffff\uffff\u0000\u0182\u017a\u0001\u0000\u0000\u0000\u0182\u0181\u0001"+
+		"\u0000\u0000\u0000\u01835\u0001\u0000\u0000\u0000\u0184\u0185\u0003:\u001d"+
+		"\u0000\u0185\u0186\u00038\u001c\u0000\u0186\u0187\u0006\u001b\uffff\uffff"+
+		"\u0000\u01877\u0001\u0000\u0000\u0000\u0188\u0189\u0005\u001b\u0000\u0000"+
+		"\u0189\u0191\u0006\u001c\uffff\uffff\u0000\u018a\u018b\u0005\u001d\u0000"+
+		"\u0000\u018b\u0191\u0006\u001c\uffff\uffff\u0000\u018c\u018d\u0005\u001a"+
+		"\u0000\u0000\u018d\u0191\u0006\u001c\uffff\uffff\u0000\u018e\u018f\u0005"+
+		"\u001c\u0000\u0000\u018f\u0191\u0006\u001c\uffff\uffff\u0000\u0190\u0188"+
+		"\u0001\u0000\u0000\u0000\u0190\u018a\u0001\u0000\u0000\u0000\u0190\u018c"+
+		"\u0001\u0000\u0000\u0000\u0190\u018e\u0001\u0000\u0000\u0000\u0191\u0192"+
+		"\u0001\u0000\u0000\u0000\u0192\u0193\u0003:\u001d\u0000\u0193\u0194\u0003"+
+		"8\u001c\u0000\u0194\u0195\u0006\u001c\uffff\uffff\u0000\u0195\u0196\u0006"+
+		"\u001c\uffff\uffff\u0000\u0196\u0199\u0001\u0000\u0000\u0000\u0197\u0199"+
+		"\u0006\u001c\uffff\uffff\u0000\u0198\u0190\u0001\u0000\u0000\u0000\u0198"+
+		"\u0197\u0001\u0000\u0000\u0000\u01999\u0001\u0000\u0000\u0000\u019a\u019b"+
+		"\u0003>\u001f\u0000\u019b\u019c\u0003<\u001e\u0000\u019c\u019d\u0006\u001d"+
+		"\uffff\uffff\u0000\u019d;\u0001\u0000\u0000\u0000\u019e\u019f\u0005\u001e"+
+		"\u0000\u0000\u019f\u01a3\u0006\u001e\uffff\uffff\u0000\u01a0\u01a1\u0005"+
+		"\u001f\u0000\u0000\u01a1\u01a3\u0006\u001e\uffff\uffff\u0000\u01a2\u019e"+
+		"\u0001\u0000\u0000\u0000\u01a2\u01a0\u0001\u0000\u0000\u0000\u01a3\u01a4"+
+		"\u0001\u0000\u0000\u0000\u01a4\u01a5\u0003>\u001f\u0000\u01a5\u01a6\u0003"+
+		"<\u001e\u0000\u01a6\u01a7\u0006\u001e\uffff\uffff\u0000\u01a7\u01a8\u0006"+
+		"\u001e\uffff\uffff\u0000\u01a8\u01ab\u0001\u0000\u0000\u0000\u01a9\u01ab"+
+		"\u0006\u001e\uffff\uffff\u0000\u01aa\u01a2\u0001\u0000\u0000\u0000\u01aa"+
+		"\u01a9\u0001\u0000\u0000\u0000\u01ab=\u0001\u0000\u0000\u0000\u01ac\u01ad"+
+		"\u0003B!\u0000\u01ad\u01ae\u0003@ \u0000\u01ae\u01af\u0006\u001f\uffff"+
+		"\uffff\u0000\u01af?\u0001\u0000\u0000\u0000\u01b0\u01b1\u0005 \u0000\u0000"+
+		"\u01b1\u01b7\u0006 \uffff\uffff\u0000\u01b2\u01b3\u0005\"\u0000\u0000"+
+		"\u01b3\u01b7\u0006 \uffff\uffff\u0000\u01b4\u01b5\u0005!\u0000\u0000\u01b5"+
+		"\u01b7\u0006 \uffff\uffff\u0000\u01b6\u01b0\u0001\u0000\u0000\u0000\u01b6"+
+		"\u01b2\u0001\u0000\u0000\u0000\u01b6\u01b4\u0001\u0000\u0000\u0000\u01b7"+
+		"\u01b8\u0001\u0000\u0000\u0000\u01b8\u01b9\u0003B!\u0000\u01b9\u01ba\u0003"+
+		"@ \u0000\u01ba\u01bb\u0006 \uffff\uffff\u0000\u01bb\u01bc\u0006 \uffff"+
+		"\uffff\u0000\u01bc\u01bf\u0001\u0000\u0000\u0000\u01bd\u01bf\u0006 \uffff"+
+		"\uffff\u0000\u01be\u01b6\u0001\u0000\u0000\u0000\u01be\u01bd\u0001\u0000"+
+		"\u0000\u0000\u01bfA\u0001\u0000\u0000\u0000\u01c0\u01c1\u0003D\"\u0000"+
+		"\u01c1\u01c2\u0006!\uffff\uffff\u0000\u01c2\u01cf\u0001\u0000\u0000\u0000"+
+		"\u01c3\u01c4\u0005\u001e\u0000\u0000\u01c4\u01ca\u0006!\uffff\uffff\u0000"+
+		"\u01c5\u01c6\u0005\u001f\u0000\u0000\u01c6\u01ca\u0006!\uffff\uffff\u0000"+
+		"\u01c7\u01c8\u0005$\u0000\u0000\u01c8\u01ca\u0006!\uffff\uffff\u0000\u01c9"+
+		"\u01c3\u0001\u0000\u0000\u0000\u01c9\u01c5\u0001\u0000\u0000\u0000\u01c9"+
+		"\u01c7\u0001\u0000\u0000\u0000\u01ca\u01cb\u0001\u0000\u0000\u0000\u01cb"+
+		"\u01cc\u0003D\"\u0000\u01cc\u01cd\u0006!\uffff\uffff\u0000\u01cd\u01cf"+
+		"\u0001\u0000\u0000\u0000\u01ce\u01c0\u0001\u0000\u0000\u0000\u01ce\u01c9"+
+		"\u0001\u0000\u0000\u0000\u01cfC\u0001\u0000\u0000\u0000\u01d0\u01d1\u0005"+
+		"\u000b\u0000\u0000\u01d1\u01d2\u0003*\u0015\u0000\u01d2\u01d3\u0005\f"+
+		"\u0000\u0000\u01d3\u01d4\u0006\"\uffff\uffff\u0000\u01d4\u01e2\u0001\u0000"+
+		"\u0000\u0000\u01d5\u01d6\u0003\f\u0006\u0000\u01d6\u01d7\u0006\"\uffff"+
+		"\uffff\u0000\u01d7\u01e2\u0001\u0000\u0000\u0000\u01d8\u01d9\u0003H$\u0000"+
+		"\u01d9\u01da\u0006\"\uffff\uffff\u0000\u01da\u01e2\u0001\u0000\u0000\u0000"+
+		"\u01db\u01dc\u0003\u001e\u000f\u0000\u01dc\u01dd\u0006\"\uffff\uffff\u0000"+
+		"\u01dd\u01e2\u0001\u0000\u0000\u0000\u01de\u01df\u0003F#\u0000\u01df\u01e0"+
+		"\u0006\"\uffff\uffff\u0000\u01e0\u01e2\u0001\u0000\u0000\u0000\u01e1\u01d0"+
+		"\u0001\u0000\u0000\u0000\u01e1\u01d5\u0001\u0000\u0000\u0000\u01e1\u01d8"+
+		"\u0001\u0000\u0000\u0000\u01e1\u01db\u0001\u0000\u0000\u0000\u01e1\u01de"+
+		"\u0001\u0000\u0000\u0000\u01e2E\u0001\u0000\u0000\u0000\u01e3\u01e4\u0006"+
+		"#\uffff\uffff\u0000\u01e4\u01e5\u0003L&\u0000\u01e5\u01f1\u0005\u000b"+
+		"\u0000\u0000\u01e6\u01e7\u0003*\u0015\u0000\u01e7\u01ee\u0006#\uffff\uffff"+
+		"\u0000\u01e8\u01e9\u0005\u000e\u0000\u0000\u01e9\u01ea\u0003*\u0015\u0000"+
+		"\u01ea\u01eb\u0006#\uffff\uffff\u0000\u01eb\u01ed\u0001\u0000\u0000\u0000"+
+		"\u01ec\u01e8\u0001\u0000\u0000\u0000\u01ed\u01f0\u0001\u0000\u0000\u0000"+
+		"\u01ee\u01ec\u0001\u0000\u0000\u0000\u01ee\u01ef\u0001\u0000\u0000\u0000"+
+		"\u01ef\u01f2\u0001\u0000\u0000\u0000\u01f0\u01ee\u0001\u0000\u0000\u0000"+
+		"\u01f1\u01e6\u0001\u0000\u0000\u0000\u01f1\u01f2\u0001\u0000\u0000\u0000"+
+		"\u01f2\u01f3\u0001\u0000\u0000\u0000\u01f3\u01f4\u0005\f\u0000\u0000\u01f4"+
+		"\u01f5\u0006#\uffff\uffff\u0000\u01f5G\u0001\u0000\u0000\u0000\u01f6\u01f7"+
+		"\u0003J%\u0000\u01f7\u01f8\u0006$\uffff\uffff\u0000\u01f8\u0204\u0001"+
+		"\u0000\u0000\u0000\u01f9\u01fa\u0005\t\u0000\u0000\u01fa\u01fb\u0006$"+
+		"\uffff\uffff\u0000\u01fb\u0204\u0006$\uffff\uffff\u0000\u01fc\u01fd\u0005"+
+		"\n\u0000\u0000\u01fd\u01fe\u0006$\uffff\uffff\u0000\u01fe\u0204\u0006"+
+		"$\uffff\uffff\u0000\u01ff\u0200\u0005\u001f\u0000\u0000\u0200\u0201\u0003"+
+		"J%\u0000\u0201\u0202\u0006$\uffff\uffff\u0000\u0202\u0204\u0001\u0000"+
+		"\u0000\u0000\u0203\u01f6\u0001\u0000\u0000\u0000\u0203\u01f9\u0001\u0000"+
+		"\u0000\u0000\u0203\u01fc\u0001\u0000\u0000\u0000\u0203\u01ff\u0001\u0000"+
+		"\u0000\u0000\u0204I\u0001\u0000\u0000\u0000\u0205\u0206\u0005)\u0000\u0000"+
+		"\u0206\u0207\u0006%\uffff\uffff\u0000\u0207\u020c\u0006%\uffff\uffff\u0000"+
+		"\u0208\u0209\u0005*\u0000\u0000\u0209\u020a\u0006%\uffff\uffff\u0000\u020a"+
+		"\u020c\u0006%\uffff\uffff\u0000\u020b\u0205\u0001\u0000\u0000\u0000\u020b"+
+		"\u0208\u0001\u0000\u0000\u0000\u020cK\u0001\u0000\u0000\u0000\u020d\u020e"+
+		"\u0005\'\u0000\u0000\u020e\u020f\u0006&\uffff\uffff\u0000\u020fM\u0001"+
+		"\u0000\u0000\u0000\u0210\u0211\u0005(\u0000\u0000\u0211\u0212\u0006\'"+
+		"\uffff\uffff\u0000\u0212O\u0001\u0000\u0000\u0000\u0213\u0214\u0005\u0002"+
+		"\u0000\u0000\u0214\u021a\u0006(\uffff\uffff\u0000\u0215\u0216\u0005\u0003"+
+		"\u0000\u0000\u0216\u021a\u0006(\uffff\uffff\u0000\u0217\u0218\u0005\u0004"+
+		"\u0000\u0000\u0218\u021a\u0006(\uffff\uffff\u0000\u0219\u0213\u0001\u0000"+
+		"\u0000\u0000\u0219\u0215\u0001\u0000\u0000\u0000\u0219\u0217\u0001\u0000"+
+		"\u0000\u0000\u021aQ\u0001\u0000\u0000\u0000%Xjmx\u008b\u008d\u00a9\u00ba"+
+		"\u00c2\u00cb\u00d8\u00e8\u00f1\u00f5\u0107\u010f\u0129\u013c\u0153\u0163"+
+		"\u0170\u017a\u0182\u0190\u0198\u01a2\u01aa\u01b6\u01be\u01c9\u01ce\u01e1"+
+		"\u01ee\u01f1\u0203\u020b\u0219";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -1,4 +1,9 @@
 import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashSet;
 
 import ast.node.Program;
 import compileError.CompileError;
@@ -6,14 +11,77 @@ import main.grammar.LogicPLLexer;
 import main.grammar.LogicPLParser;
 import visitor.codeGenerator.CodeGenerator;
 import visitor.nameAnalyzer.NameAnalyzer;
+import visitor.optimizer.CommonSubexpressionEliminator;
+import visitor.optimizer.ConstantFolder;
+import visitor.optimizer.ConstantPropagator;
+import visitor.optimizer.DeadCodeEliminator;
+import visitor.optimizer.Inliner;
+import visitor.optimizer.LoopUnroller;
+import visitor.optimizer.PureFunctions;
 import visitor.astPrinter.ASTPrinter;
 import org.antlr.v4.runtime.*;
 import visitor.typeAnalyzer.TypeAnalyzer;
 
 public class Main {
+        // Loops over arrays up to this size are unrolled completely; set with --unroll=<size>
+        private static int fullUnrollSize = LoopUnroller.DEFAULT_FULL_UNROLL_SIZE;
+        // Cache the results of pure functions; set with --memoize
+        private static boolean memoize = false;
+
         public static void main(String[] args) throws java.io.IOException {
+            boolean run = false;
+            ArrayList<String> fileNames = new ArrayList<>();
+            for (String arg : args) {
+                if (arg.equals("--run"))
+                    run = true;
+                else if (arg.equals("--memoize"))
+                    memoize = true;
+                else if (arg.startsWith("--unroll="))
+                    fullUnrollSize = parseUnrollSize(arg.substring("--unroll=".length()));
+                else
+                    fileNames.add(arg);
+            }
+            // Every compiled program is written to Main.class, so only one
+            // can be compiled at a time unless they are run instead.
+            if (!run && fileNames.size() > 1)
+                usage("Only one file can be compiled without --run");
+
+            for (String fileName : fileNames) {
+                byte[] classFile = compile(fileName, !run);
+                if (classFile == null)
+                    continue;
+
+                if (run) {
+                    execute(classFile);
+                    continue;
+                }
 
-            CharStream reader = CharStreams.fromFileName(args[0]);
+                FileOutputStream out = new FileOutputStream("Main.class");
+                out.write(classFile);
+                out.close();
+                System.out.println("Compilation was Successful!!");
+            }
+        }
+
+        private static int parseUnrollSize(String value) {
+            try {
+                int size = Integer.parseInt(value);
+                if (size >= 0)
+                    return size;
+            } catch (NumberFormatException ignored) {
+            }
+            usage("--unroll expects a non-negative integer, got \"" + value + "\"");
+            return 0;
+        }
+
+        private static void usage(String error) {
+            System.err.println(error);
+            System.err.println("Usage: Main [--run] [--memoize] [--unroll=<size>] <file>...");
+            System.exit(1);
+        }
+
+        private static byte[] compile(String fileName, boolean printCode) throws java.io.IOException {
+            CharStream reader = CharStreams.fromFileName(fileName);
             LogicPLLexer lexer = new LogicPLLexer(reader);
             CommonTokenStream tokens = new CommonTokenStream(lexer);
             LogicPLParser parser = new LogicPLParser(tokens);
@@ -28,40 +96,48 @@ public class Main {
             if (typeAnalyzer.typeErrors.size() > 0){
                 for(CompileError compileError: typeAnalyzer.typeErrors)
                     System.out.println(compileError.getMessage());
-                return;
+                return null;
             }
-            CodeGenerator codeGenerator = new CodeGenerator();
-            String result = codeGenerator.visit(program);
-            System.out.println(result);
 
-            BufferedWriter writer = new BufferedWriter(new FileWriter("logicpl_jasmin_bytecode.j"));
-            writer.write(result);
-            writer.close();
+            Inliner inliner = new Inliner();
+            inliner.visit(program);
+            ConstantFolder constantFolder = new ConstantFolder();
+            constantFolder.visit(program);
+            ConstantPropagator constantPropagator = new ConstantPropagator();
+            constantPropagator.visit(program);
+            DeadCodeEliminator deadCodeEliminator = new DeadCodeEliminator();
+            deadCodeEliminator.visit(program);
+            CommonSubexpressionEliminator commonSubexpressionEliminator = new CommonSubexpressionEliminator();
+            commonSubexpressionEliminator.visit(program);
+            LoopUnroller loopUnroller = new LoopUnroller(fullUnrollSize);
+            loopUnroller.visit(program);
 
+            StringBuilder listing = printCode ? new StringBuilder() : null;
+            HashSet<String> memoized = memoize ? PureFunctions.of(program) : new HashSet<>();
+            CodeGenerator codeGenerator = new CodeGenerator(listing, memoized);
             try {
-                ProcessBuilder pb = new ProcessBuilder("java", "-jar", "utilities/jasmin.jar", "logicpl_jasmin_bytecode.j");
-                pb.redirectErrorStream(true);
-                Process p = pb.start();
-                InputStream inputStream = p.getInputStream();
-                BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
-                String line;
-                StringBuilder output = new StringBuilder();
-
-                while ((line = bufferedReader.readLine()) != null) {
-                    output.append(line).append("\n");
-                }
-                int exitCode = p.waitFor();
-                if (exitCode == 0) {
-                    System.out.println("Jasmin assembly completed successfully!");
-                } else {
-                    System.err.println("Jasmin assembly encountered errors:");
-                    System.err.println(output.toString());
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
+                codeGenerator.visit(program);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Code generation encountered errors:");
+                System.err.println(e.getMessage());
+                return null;
             }
+            if (printCode)
+                System.out.println(listing);
+            return codeGenerator.toByteArray();
+        }
 
-            System.out.println("Compilation was Successful!!");
+        // Defines the generated class as a hidden class of this JVM, so a
+        // program can be run without writing it to disk or starting a new JVM.
+        private static void execute(byte[] classFile) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(classFile, true);
+                MethodHandle main = lookup.findStatic(lookup.lookupClass(), "main", MethodType.methodType(void.class, String[].class));
+                main.invokeExact(new String[0]);
+            } catch (Throwable e) {
+                System.err.println("Execution encountered errors:");
+                System.err.println(e);
+            }
         }
 
-}
\ No newline at end of file
+}
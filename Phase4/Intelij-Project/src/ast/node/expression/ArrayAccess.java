@@ -5,6 +5,8 @@ import visitor.IVisitor;
 //Line -> IDENTIFIER
 public class ArrayAccess extends Variable{
     private Expression arrayIndex;
+    // Declared size of the array, or -1 while it is not known.
+    private int arraySize = -1;
 
     public ArrayAccess(String name, Expression expression) {
         this.name = name;
@@ -19,6 +21,14 @@ public class ArrayAccess extends Variable{
         this.arrayIndex = expression;
     }
 
+    public int getArraySize() {
+        return arraySize;
+    }
+
+    public void setArraySize(int arraySize) {
+        this.arraySize = arraySize;
+    }
+
     @Override
     public String toString() {
         return "ArrayAccess " + name;
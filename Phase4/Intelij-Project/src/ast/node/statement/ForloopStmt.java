@@ -10,6 +10,8 @@ public class ForloopStmt extends Statement {
     private Identifier iterator;
     private Identifier arrayName;
     private ArrayList<Statement> bodyStmts = new ArrayList<>();
+    // Iterations compiled per pass over the loop; 1 keeps it rolled
+    private int unrollFactor = 1;
 
     public ForloopStmt(Identifier iterator, Identifier arrayName, ArrayList<Statement> bodyStmts) {
         this.iterator = iterator;
@@ -43,6 +45,14 @@ public class ForloopStmt extends Statement {
         this.arrayName = identifier;
     }
 
+    public int getUnrollFactor() {
+        return unrollFactor;
+    }
+
+    public void setUnrollFactor(int unrollFactor) {
+        this.unrollFactor = unrollFactor;
+    }
+
     @Override
     public String toString() {
         return "ForloopStmt";
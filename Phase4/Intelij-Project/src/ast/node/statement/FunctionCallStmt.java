@@ -0,0 +1,32 @@
+package ast.node.statement;
+
+import ast.node.expression.FunctionCall;
+import visitor.IVisitor;
+
+//Line -> identifier
+public class FunctionCallStmt extends Statement {
+
+    private FunctionCall functionCall;
+
+    public FunctionCallStmt(FunctionCall functionCall) {
+        this.functionCall = functionCall;
+    }
+
+    public FunctionCall getFunctionCall() {
+        return functionCall;
+    }
+
+    public void setFunctionCall(FunctionCall functionCall) {
+        this.functionCall = functionCall;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionCallStmt";
+    }
+
+    @Override
+    public <T> T accept(IVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
@@ -0,0 +1,21 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class ArgumentCountMismatch extends CompileError {
+    int line;
+    String name;
+    int expected;
+    int given;
+    public ArgumentCountMismatch(int line, String name, int expected, int given){
+        this.line = line;
+        this.name = name;
+        this.expected = expected;
+        this.given = given;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Function "  + name + " takes " + expected + " arguments but is given " + given;
+    }
+
+}
+
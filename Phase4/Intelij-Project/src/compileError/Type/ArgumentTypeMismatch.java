@@ -0,0 +1,19 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class ArgumentTypeMismatch extends CompileError {
+    int line;
+    String name;
+    int position;
+    public ArgumentTypeMismatch(int line, String name, int position){
+        this.line = line;
+        this.name = name;
+        this.position = position;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Argument " + position + " of function "  + name + " has the wrong type";
+    }
+
+}
+
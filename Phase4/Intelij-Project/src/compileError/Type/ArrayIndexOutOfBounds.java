@@ -0,0 +1,19 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class ArrayIndexOutOfBounds extends CompileError {
+    int line;
+    String name;
+    int index;
+    public ArrayIndexOutOfBounds(int line, String name, int index){
+        this.line = line;
+        this.name = name;
+        this.index = index;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Index " + index + " is out of bounds for array " + name;
+    }
+
+
+}
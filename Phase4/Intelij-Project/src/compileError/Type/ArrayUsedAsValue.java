@@ -0,0 +1,17 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class ArrayUsedAsValue extends CompileError {
+    int line;
+    String name;
+    public ArrayUsedAsValue(int line, String name){
+        this.line = line;
+        this.name = name;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Array "  + name + " cannot be used as a single value";
+    }
+
+}
+
@@ -0,0 +1,15 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class IndexTypeNotInt extends CompileError {
+    int line;
+    public IndexTypeNotInt(int line){
+        this.line = line;
+    }
+    public String getMessage(){
+        return "Line " + line + ": array index type must be int";
+    }
+
+}
+
@@ -0,0 +1,17 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class NotAnArray extends CompileError {
+    int line;
+    String name;
+    public NotAnArray(int line, String name){
+        this.line = line;
+        this.name = name;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Variable "  + name + " is not an array";
+    }
+
+}
+
@@ -0,0 +1,17 @@
+package compileError.Type;
+
+import compileError.CompileError;
+
+public class ReturnTypeMismatch extends CompileError {
+    int line;
+    String name;
+    public ReturnTypeMismatch(int line, String name){
+        this.line = line;
+        this.name = name;
+    }
+    public String getMessage(){
+        return "Line " + line + ": Return type of "  + name + " does not match its declaration";
+    }
+
+}
+
@@ -32,7 +32,8 @@ functionVarDec returns [ArgDeclaration argDeclaration]:
 
 mainBlock returns [MainDeclaration main]:
     {ArrayList<Statement> mainStmts = new ArrayList<>();}
-    m = MAIN LBRACE (s = statement {mainStmts.add($s.statementRet);} | functionCall SEMICOLON)* RBRACE
+    m = MAIN LBRACE (s = statement {mainStmts.add($s.statementRet);}
+    | f = functionCall SEMICOLON {FunctionCallStmt call = new FunctionCallStmt($f.fCallRet); call.setLine($f.fCallRet.getLine()); mainStmts.add(call);})* RBRACE
     {$main = new MainDeclaration(mainStmts); $main.setLine($m.getLine());}
     ;
 
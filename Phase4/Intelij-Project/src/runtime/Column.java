@@ -0,0 +1,16 @@
+package runtime;
+
+// A set of ints, the storage behind one column of a Relation.
+interface Column {
+
+    boolean contains(int value);
+
+    // Adds a value unless it is already present, and reports whether it was added.
+    boolean add(int value);
+
+    // Positions walk the column in insertion order, whatever the storage.
+    // next(-1) is the first position, and -1 is past the last one.
+    int next(int position);
+
+    int get(int position);
+}
@@ -0,0 +1,45 @@
+package runtime;
+
+import java.io.PrintStream;
+
+// Walks the facts of a relation: ints first, then floats, then booleans,
+// each column in insertion order (see Column.next). It reads the columns
+// in place, so enumerating a relation needs no memory beyond the cursor.
+class Cursor {
+
+    private final Relation relation;
+    private int column = 0;
+    private int position = -1;
+
+    Cursor(Relation relation) {
+        this.relation = relation;
+    }
+
+    // Prints the next fact, and reports false once there are none left.
+    boolean printNext(PrintStream out) {
+        if (column == 0) {
+            position = relation.ints.next(position);
+            if (position >= 0) {
+                out.println(relation.ints.get(position));
+                return true;
+            }
+            column++;
+        }
+        if (column == 1) {
+            position = relation.floats.next(position);
+            if (position >= 0) {
+                out.println(Float.intBitsToFloat(relation.floats.get(position)));
+                return true;
+            }
+            column++;
+        }
+        while (column < 4) {
+            boolean value = column++ == 3;
+            if ((relation.booleans & Relation.bit(value)) != 0) {
+                out.println(value);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package runtime;
+
+// The facts asserted by PredicateStmt, one relation per predicate. The
+// compiler numbers predicates densely, so generated code names a relation
+// by its index instead of hashing the predicate's name on every call.
+// A fact is asserted with the method for its argument's type, a query
+// [?P(x)] is a single hash probe into the matching column, and
+// print([P(?)]) streams every fact of P through a Cursor.
+// Running with -Dlogicpl.factstore=offheap keeps the facts outside the
+// Java heap, for programs that assert more than the collector should scan.
+public class FactStore {
+
+    private static Relation[] relations = new Relation[0];
+
+    public static void init(int count) {
+        boolean offHeap = "offheap".equals(System.getProperty("logicpl.factstore"));
+        relations = new Relation[count];
+        for (int i = 0; i < count; i++)
+            relations[i] = new Relation(offHeap);
+    }
+
+    public static void assertInt(int predicate, int value) {
+        relations[predicate].ints.add(value);
+    }
+
+    public static void assertFloat(int predicate, float value) {
+        relations[predicate].floats.add(bits(value));
+    }
+
+    public static void assertBoolean(int predicate, boolean value) {
+        relations[predicate].booleans |= Relation.bit(value);
+    }
+
+    public static boolean queryInt(int predicate, int value) {
+        return relations[predicate].ints.contains(value);
+    }
+
+    public static boolean queryFloat(int predicate, float value) {
+        return relations[predicate].floats.contains(bits(value));
+    }
+
+    public static boolean queryBoolean(int predicate, boolean value) {
+        return (relations[predicate].booleans & Relation.bit(value)) != 0;
+    }
+
+    public static void printAll(int predicate) {
+        Cursor cursor = new Cursor(relations[predicate]);
+        while (cursor.printNext(System.out))
+            ;
+    }
+
+    // Floats that compare equal must share a key, so -0.0 is stored as 0.0;
+    // floatToIntBits already gives every NaN the same bits.
+    private static int bits(float value) {
+        return value == 0 ? 0 : Float.floatToIntBits(value);
+    }
+}
@@ -0,0 +1,115 @@
+package runtime;
+
+import java.util.Arrays;
+
+// A set of ints. Values are kept densely in insertion order, which is the
+// order positions walk. A dense column starts out with a bitset over small
+// non-negative values for membership, so insertion is a word operation
+// and needs no index. Once a value falls outside the range a bitset can
+// hold at a reasonable density, the bitset is replaced with an
+// open-addressing index that maps each value to its position plus one, so
+// zero marks an empty slot and nothing is boxed.
+class IntColumn implements Column {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Values below this always fit the bitset, however few there are.
+    private static final int MIN_BITSET_RANGE = 1024;
+    // The bitset may grow to this many bits per value it holds.
+    private static final int MAX_BITS_PER_VALUE = 64;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    // Exactly one of these is set: the bitset while the column is dense,
+    // the index afterwards.
+    private long[] bits;
+    private int[] index;
+
+    IntColumn(boolean dense) {
+        if (dense)
+            bits = new long[MIN_BITSET_RANGE / 64];
+        else
+            toHashSet();
+    }
+
+    @Override
+    public boolean contains(int value) {
+        if (bits != null)
+            return value >>> 6 < bits.length && (bits[value >>> 6] >>> value & 1) != 0;
+        return index[probe(value)] != 0;
+    }
+
+    @Override
+    public boolean add(int value) {
+        if (bits != null) {
+            if (value >= 0 && value < Math.max(MIN_BITSET_RANGE, MAX_BITS_PER_VALUE * (size + 1L))) {
+                int word = value >>> 6;
+                if (word >= bits.length)
+                    bits = Arrays.copyOf(bits, Math.max(2 * bits.length, word + 1));
+                if ((bits[word] >>> value & 1) != 0)
+                    return false;
+                bits[word] |= 1L << value;
+                append(value);
+                return true;
+            }
+            toHashSet();
+        }
+
+        int slot = probe(value);
+        if (index[slot] != 0)
+            return false;
+        append(value);
+        index[slot] = size;
+        if (2 * size > index.length)
+            grow();
+        return true;
+    }
+
+    @Override
+    public int next(int position) {
+        return position + 1 < size ? position + 1 : -1;
+    }
+
+    @Override
+    public int get(int position) {
+        return values[position];
+    }
+
+    private void append(int value) {
+        if (size == values.length)
+            values = Arrays.copyOf(values, 2 * size);
+        values[size++] = value;
+    }
+
+    // Drops the bitset, if any, and indexes the values already held.
+    private void toHashSet() {
+        bits = null;
+        int capacity = 2 * INITIAL_CAPACITY;
+        while (capacity < 2 * (size + 1))
+            capacity *= 2;
+        index = new int[capacity];
+        reindex();
+    }
+
+    private int probe(int value) {
+        int mask = index.length - 1;
+        int slot = hash(value) & mask;
+        while (index[slot] != 0 && values[index[slot] - 1] != value)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    static int hash(int value) {
+        int hash = value * 0x9E3779B1;
+        return hash ^ (hash >>> 16);
+    }
+
+    private void grow() {
+        index = new int[2 * index.length];
+        reindex();
+    }
+
+    private void reindex() {
+        for (int position = 0; position < size; position++)
+            index[probe(values[position])] = position + 1;
+    }
+}
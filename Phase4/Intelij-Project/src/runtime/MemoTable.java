@@ -0,0 +1,88 @@
+package runtime;
+
+// Results of memoized functions, one table per function, keyed by up to
+// two int arguments (floats by their bits) and holding int results
+// (floats by their bits, booleans as 0 or 1). Tables use open addressing
+// with linear probing over plain int arrays, so nothing is boxed.
+// Generated code calls find, and on a miss computes the result and puts it.
+public class MemoTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static MemoTable[] tables = new MemoTable[0];
+
+    private int[] firstKeys = new int[INITIAL_CAPACITY];
+    private int[] secondKeys = new int[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private boolean[] used = new boolean[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public static void init(int count) {
+        tables = new MemoTable[count];
+        for (int i = 0; i < count; i++)
+            tables[i] = new MemoTable();
+    }
+
+    // The slot holding the result for these arguments, or -1.
+    public static int find(int table, int first, int second) {
+        MemoTable memoTable = tables[table];
+        int slot = memoTable.probe(first, second);
+        return memoTable.used[slot] ? slot : -1;
+    }
+
+    public static int get(int table, int slot) {
+        return tables[table].values[slot];
+    }
+
+    // Records a result and returns it, so the caller can return it too.
+    public static int put(int table, int first, int second, int value) {
+        MemoTable memoTable = tables[table];
+        int slot = memoTable.probe(first, second);
+        if (!memoTable.used[slot]) {
+            memoTable.used[slot] = true;
+            memoTable.firstKeys[slot] = first;
+            memoTable.secondKeys[slot] = second;
+            memoTable.size++;
+        }
+        memoTable.values[slot] = value;
+        if (2 * memoTable.size > memoTable.used.length)
+            memoTable.grow();
+        return value;
+    }
+
+    private int probe(int first, int second) {
+        int mask = used.length - 1;
+        int slot = hash(first, second) & mask;
+        while (used[slot] && (firstKeys[slot] != first || secondKeys[slot] != second))
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private static int hash(int first, int second) {
+        int hash = first * 0x9E3779B1 + second;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ (hash >>> 13);
+    }
+
+    private void grow() {
+        int[] oldFirstKeys = firstKeys;
+        int[] oldSecondKeys = secondKeys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        int capacity = 2 * oldUsed.length;
+        firstKeys = new int[capacity];
+        secondKeys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i])
+                continue;
+            int slot = probe(oldFirstKeys[i], oldSecondKeys[i]);
+            used[slot] = true;
+            firstKeys[slot] = oldFirstKeys[i];
+            secondKeys[slot] = oldSecondKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
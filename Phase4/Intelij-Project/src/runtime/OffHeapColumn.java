@@ -0,0 +1,70 @@
+package runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+// A set of ints kept outside the Java heap, for relations too large to
+// leave to the garbage collector. It is laid out like the hash set of an
+// IntColumn, values in insertion order plus an open-addressing index of
+// positions plus one, but both live in direct buffers, so the heap only
+// holds the two buffer objects however many facts there are.
+class OffHeapColumn implements Column {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private IntBuffer values = allocate(INITIAL_CAPACITY);
+    private IntBuffer index = allocate(2 * INITIAL_CAPACITY);
+    private int size = 0;
+
+    @Override
+    public boolean contains(int value) {
+        return index.get(probe(value)) != 0;
+    }
+
+    @Override
+    public boolean add(int value) {
+        int slot = probe(value);
+        if (index.get(slot) != 0)
+            return false;
+        if (size == values.capacity()) {
+            IntBuffer oldValues = values;
+            values = allocate(2 * size);
+            values.put(0, oldValues, 0, size);
+        }
+        values.put(size++, value);
+        index.put(slot, size);
+        if (2 * size > index.capacity())
+            grow();
+        return true;
+    }
+
+    @Override
+    public int next(int position) {
+        return position + 1 < size ? position + 1 : -1;
+    }
+
+    @Override
+    public int get(int position) {
+        return values.get(position);
+    }
+
+    private int probe(int value) {
+        int mask = index.capacity() - 1;
+        int slot = IntColumn.hash(value) & mask;
+        int position;
+        while ((position = index.get(slot)) != 0 && values.get(position - 1) != value)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void grow() {
+        index = allocate(2 * index.capacity());
+        for (int position = 0; position < size; position++)
+            index.put(probe(values.get(position)), position + 1);
+    }
+
+    private static IntBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(4 * capacity).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
@@ -0,0 +1,21 @@
+package runtime;
+
+// The facts of one predicate. Predicates aren't typed, so a relation keeps
+// a column for each type its argument can have: ints as they are, floats
+// by their bits, and booleans as two bits, bit 0 for false and bit 1 for
+// true. Off the heap, both columns are OffHeapColumns.
+class Relation {
+
+    final Column ints;
+    final Column floats;
+    int booleans = 0;
+
+    Relation(boolean offHeap) {
+        ints = offHeap ? new OffHeapColumn() : new IntColumn(true);
+        floats = offHeap ? new OffHeapColumn() : new IntColumn(false);
+    }
+
+    static int bit(boolean value) {
+        return value ? 2 : 1;
+    }
+}
@@ -3,40 +3,30 @@ package symbolTable.symbolTableItems;
 import ast.node.statement.ArrayDecStmt;
 import ast.type.Type;
 
-public class ArrayItem extends SymbolTableItem {
+// Arrays are looked up like variables, with the element type as their type.
+public class ArrayItem extends VariableItem {
 
-    protected Type type;
     protected ArrayDecStmt arrayDeclaration;
-    public static final String STARTKEY = "Variable_";
 
     public ArrayItem(String name, Type type) {
-        this.name = name;
-        this.type = type;
+        super(name, type);
     }
 
     public ArrayItem(ArrayDecStmt arrayDeclaration)
     {
-        this.name = arrayDeclaration.getIdentifier().getName();
-        this.type = arrayDeclaration.getType();
+        super(arrayDeclaration.getIdentifier().getName(), arrayDeclaration.getType());
         this.arrayDeclaration = arrayDeclaration;
     }
 
-    public String getName() {
-        return name;
-    }
-
+    @Override
     public void setName(String name)
     {
         this.name = name;
         arrayDeclaration.getIdentifier().setName(name);
     }
 
-    public Type getType() {
-        return type;
-    }
-
-    public void setType(Type type) {
-        this.type = type;
+    public int getSize() {
+        return arrayDeclaration.getArrSize();
     }
 
     public ArrayDecStmt getArrayDeclaration()
@@ -48,9 +38,4 @@ public class ArrayItem extends SymbolTableItem {
     {
         this.arrayDeclaration = arrayDeclaration;
     }
-
-    @Override
-    public String getKey() {
-        return VariableItem.STARTKEY + this.name;
-    }
 }
\ No newline at end of file
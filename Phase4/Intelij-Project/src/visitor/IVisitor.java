@@ -34,6 +34,7 @@ public interface IVisitor<T> {
     T visit(VarDecStmt varDecStmt);
     T visit(PrintStmt printStmt);
     T visit(AssignStmt assignStmt);
+    T visit(FunctionCallStmt functionCallStmt);
     T visit(BooleanType value);
     T visit(FloatType value);
 }
@@ -98,6 +98,10 @@ public class Visitor<T> implements IVisitor<T> {
         return null;
     }
     @Override
+    public T visit(FunctionCallStmt functionCallStmt) {
+        return null;
+    }
+    @Override
     public T visit(BooleanType value) {
         return null;
     }
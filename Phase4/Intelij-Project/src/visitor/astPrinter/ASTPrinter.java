@@ -199,5 +199,13 @@ public class ASTPrinter extends Visitor<Void> {
         return null;
     }
 
+    @Override
+    public Void visit(FunctionCallStmt functionCallStmt) {
+        messagePrinter(functionCallStmt.getLine(), functionCallStmt.toString());
+        if (functionCallStmt.getFunctionCall() != null)
+            functionCallStmt.getFunctionCall().accept(this);
+        return null;
+    }
+
 }
 
@@ -0,0 +1,326 @@
+package visitor.codeGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// Builds a class file in memory. Version 49 is used so the JVM infers
+// stack map frames itself and we don't have to emit a StackMapTable.
+public class ClassFileWriter {
+
+    public static final int ACC_PUBLIC = 0x0001;
+    public static final int ACC_STATIC = 0x0008;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int MAJOR_VERSION = 49;
+    // Both are bounded by the u2 fields that count them.
+    private static final int MAX_POOL_COUNT = 65535;
+    private static final int MAX_CODE_LENGTH = 65535;
+    private static final int LDC_W = 19;
+    private static final int WIDE = 196;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final HashMap<String, Integer> arrayTypes = new HashMap<>();
+
+    static {
+        String[] types = {"boolean", "char", "float", "double", "byte", "short", "int", "long"};
+        for (int i = 0; i < types.length; i++)
+            arrayTypes.put(types[i], 4 + i);
+    }
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final HashMap<String, Integer> constants = new HashMap<>();
+    private int poolCount = 1;
+
+    private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+    private final DataOutputStream methods = new DataOutputStream(methodBytes);
+    private int methodCount = 0;
+
+    private final int access;
+    private final String className;
+    private final String superName;
+
+    public ClassFileWriter(int access, String className, String superName) {
+        this.access = access;
+        this.className = className;
+        this.superName = superName;
+    }
+
+    public int utf8(String value) {
+        return constant("U" + value, () -> {
+            pool.writeByte(CONSTANT_UTF8);
+            pool.writeUTF(value);
+        });
+    }
+
+    public int integer(int value) {
+        return constant("I" + value, () -> {
+            pool.writeByte(CONSTANT_INTEGER);
+            pool.writeInt(value);
+        });
+    }
+
+    public int floatConstant(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        return constant("F" + bits, () -> {
+            pool.writeByte(CONSTANT_FLOAT);
+            pool.writeInt(bits);
+        });
+    }
+
+    public int string(String value) {
+        int index = utf8(value);
+        return constant("S" + value, () -> {
+            pool.writeByte(CONSTANT_STRING);
+            pool.writeShort(index);
+        });
+    }
+
+    public int classRef(String internalName) {
+        int index = utf8(internalName);
+        return constant("C" + internalName, () -> {
+            pool.writeByte(CONSTANT_CLASS);
+            pool.writeShort(index);
+        });
+    }
+
+    public int nameAndType(String name, String descriptor) {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        return constant("N" + name + ":" + descriptor, () -> {
+            pool.writeByte(CONSTANT_NAME_AND_TYPE);
+            pool.writeShort(nameIndex);
+            pool.writeShort(descriptorIndex);
+        });
+    }
+
+    public int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+    }
+
+    public int methodRef(String owner, String name, String descriptor) {
+        return memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameAndTypeIndex = nameAndType(name, descriptor);
+        return constant("M" + tag + owner + "." + name + ":" + descriptor, () -> {
+            pool.writeByte(tag);
+            pool.writeShort(ownerIndex);
+            pool.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    private interface PoolEntry {
+        void write() throws IOException;
+    }
+
+    private int constant(String key, PoolEntry entry) {
+        Integer index = constants.get(key);
+        if (index != null)
+            return index;
+        if (poolCount == MAX_POOL_COUNT)
+            throw new IllegalArgumentException("Too many constants for one class");
+        try {
+            entry.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        constants.put(key, poolCount);
+        return poolCount++;
+    }
+
+    public void addMethod(int access, String name, String descriptor, List<Instruction> instructions, int maxStack, int maxLocals) {
+        Code code = new Code();
+        for (Instruction instruction : instructions)
+            encode(code, instruction);
+        byte[] body = code.resolve();
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int codeIndex = utf8("Code");
+        try {
+            methods.writeShort(access);
+            methods.writeShort(nameIndex);
+            methods.writeShort(descriptorIndex);
+            methods.writeShort(1);
+            methods.writeShort(codeIndex);
+            methods.writeInt(12 + body.length);
+            methods.writeShort(maxStack);
+            methods.writeShort(maxLocals);
+            methods.writeInt(body.length);
+            methods.write(body);
+            methods.writeShort(0); // exception table
+            methods.writeShort(0); // code attributes
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        methodCount++;
+    }
+
+    private void encode(Code code, Instruction instruction) {
+        if (instruction.isLabel()) {
+            code.label(instruction.getReference());
+            return;
+        }
+        int opcode = instruction.getOpcode();
+        switch (instruction.getKind()) {
+            case Instruction.NONE -> code.u1(opcode);
+            case Instruction.LOCAL -> {
+                int slot = instruction.getLocalSlot();
+                if (slot > 255) {
+                    code.u1(WIDE);
+                    code.u1(opcode);
+                    code.u2(slot);
+                } else {
+                    code.u1(opcode);
+                    code.u1(slot);
+                }
+            }
+            case Instruction.INCREMENT -> {
+                int slot = instruction.getLocalSlot();
+                int increment = instruction.getIncrement();
+                if (slot > 255 || increment < Byte.MIN_VALUE || increment > Byte.MAX_VALUE) {
+                    code.u1(WIDE);
+                    code.u1(opcode);
+                    code.u2(slot);
+                    code.u2(increment);
+                } else {
+                    code.u1(opcode);
+                    code.u1(slot);
+                    code.u1(increment);
+                }
+            }
+            case Instruction.BRANCH -> code.branch(opcode, instruction.getReference());
+            case Instruction.BYTE -> {
+                code.u1(opcode);
+                code.u1(instruction.getIntConstant());
+            }
+            case Instruction.SHORT -> {
+                code.u1(opcode);
+                code.u2(instruction.getIntConstant());
+            }
+            case Instruction.CONSTANT -> {
+                Float value = instruction.getFloatConstant();
+                int index = value != null ? floatConstant(value) : integer(instruction.getIntConstant());
+                if (index > 255) {
+                    code.u1(LDC_W);
+                    code.u2(index);
+                } else {
+                    code.u1(opcode);
+                    code.u1(index);
+                }
+            }
+            case Instruction.FIELD -> {
+                // owner/name descriptor
+                String[] parts = instruction.getReference().split(" ");
+                int slash = parts[0].lastIndexOf('/');
+                code.u1(opcode);
+                code.u2(fieldRef(parts[0].substring(0, slash), parts[0].substring(slash + 1), parts[1]));
+            }
+            case Instruction.METHOD -> {
+                // owner/name(arguments)result
+                String reference = instruction.getReference();
+                int paren = reference.indexOf('(');
+                int slash = reference.lastIndexOf('/', paren);
+                code.u1(opcode);
+                code.u2(methodRef(reference.substring(0, slash), reference.substring(slash + 1, paren), reference.substring(paren)));
+            }
+            case Instruction.CLASS -> {
+                code.u1(opcode);
+                code.u2(classRef(instruction.getReference()));
+            }
+            case Instruction.NEWARRAY -> {
+                Integer type = arrayTypes.get(instruction.getReference());
+                if (type == null)
+                    throw new IllegalArgumentException("Unknown array type " + instruction.getReference());
+                code.u1(opcode);
+                code.u1(type);
+            }
+        }
+    }
+
+    public byte[] toByteArray() {
+        int thisIndex = classRef(className);
+        int superIndex = classRef(superName);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            out.writeShort(poolCount);
+            poolBytes.writeTo(out);
+            out.writeShort(access | ACC_SUPER);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(0); // interfaces
+            out.writeShort(0); // fields
+            out.writeShort(methodCount);
+            methodBytes.writeTo(out);
+            out.writeShort(0); // class attributes
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Bytecode of a single method. Branch targets are labels that get
+    // patched to relative offsets once the whole body is known.
+    private static class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final HashMap<String, Integer> labels = new HashMap<>();
+        private final ArrayList<Object[]> fixups = new ArrayList<>();
+
+        void u1(int value) {
+            bytes.write(value);
+        }
+
+        void u2(int value) {
+            bytes.write(value >> 8);
+            bytes.write(value);
+        }
+
+        void label(String name) {
+            if (labels.put(name, bytes.size()) != null)
+                throw new IllegalArgumentException("Label " + name + " is defined twice");
+        }
+
+        void branch(int opcode, String label) {
+            fixups.add(new Object[]{bytes.size(), label});
+            u1(opcode);
+            u2(0);
+        }
+
+        private byte[] resolve() {
+            byte[] code = bytes.toByteArray();
+            if (code.length > MAX_CODE_LENGTH)
+                throw new IllegalArgumentException("Method body is " + code.length + " bytes, more than " + MAX_CODE_LENGTH);
+            for (Object[] fixup : fixups) {
+                int at = (Integer) fixup[0];
+                Integer target = labels.get((String) fixup[1]);
+                if (target == null)
+                    throw new IllegalArgumentException("Label " + fixup[1] + " is not defined");
+                int offset = target - at;
+                if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE)
+                    throw new IllegalArgumentException("Branch to " + fixup[1] + " is too far");
+                code[at + 1] = (byte) (offset >> 8);
+                code[at + 2] = (byte) offset;
+            }
+            return code;
+        }
+    }
+}
@@ -1,201 +1,814 @@
-package visitor.codeGenerator;
-
-import ast.node.Program;
-import ast.node.declaration.ArgDeclaration;
-import ast.node.declaration.FuncDeclaration;
-import ast.node.declaration.MainDeclaration;
-import ast.node.expression.BinaryExpression;
-import ast.node.expression.FunctionCall;
-import ast.node.expression.Identifier;
-import ast.node.expression.UnaryExpression;
-import ast.node.expression.operators.BinaryOperator;
-import ast.node.expression.operators.UnaryOperator;
-import ast.node.expression.values.IntValue;
-import ast.node.statement.AssignStmt;
-import ast.node.statement.ReturnStmt;
-import ast.node.statement.Statement;
-import ast.node.statement.VarDecStmt;
-import visitor.Visitor;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-
-public class CodeGenerator extends Visitor<String> {
-
-    private ArrayList<String> slots = new ArrayList<>();
-
-    int max_stack = 2;
-    int current_stack = 1;
-    int max_local = 0;
-
-    private int slotsOf(String variable){
-        int index = slots.indexOf(variable);
-        if (index == -1){
-            slots.add(variable);
-            max_local += 1;
-            return slots.size() - 1;
-        }
-        return index;
-    }
-    private String getIntInst(int num){
-        current_stack += 1;
-        if (current_stack > max_stack)
-            max_stack = current_stack;
-        if (num <= 5 && num >=0)
-            return "iconst_" + Integer.toString(num);
-        if (num <= (1 << 7) - 1 && num >= -(1 << 7))
-            return "bipush " + Integer.toString(num);
-        if (num <= (1 << 15) - 1 && num >= -(1 << 15))
-            return "sipush " + Integer.toString(num);
-        return "ldc " + Integer.toString(num);
-    }
-
-    private String getOprInst(BinaryOperator binaryOperator){
-        current_stack -= 1;
-
-        if(binaryOperator.equals(BinaryOperator.add))
-            return "iadd";
-        if (binaryOperator.equals(BinaryOperator.sub))
-            return "isub";
-        if (binaryOperator.equals(BinaryOperator.mult))
-            return "imul";
-        if (binaryOperator.equals(BinaryOperator.div))
-            return "idiv";
-
-        return "irem";
-    }
-
-    @Override
-    public String visit(Program program) {
-        StringBuilder buffer = new StringBuilder();
-        buffer.append("""
-                .class public Main
-                .super java/lang/Object
-                
-                .method public <init>()V
-                .limit stack 1
-                .limit locals 1
-                    aload_0
-                    invokenonvirtual java/lang/Object/<init>()V
-                    return
-                .end method
-                
-                """);
-        buffer.append(program.getFuncs().get(0).accept(this));
-        buffer.append('\n');
-        buffer.append(program.getMain().accept(this));
-        return buffer.toString();
-    }
-
-    @Override
-    public String visit(MainDeclaration mainDeclaration) {
-        return """
-                .method public static main([Ljava/lang/String;)V
-                    .limit stack 1
-                    .limit locals 1
-                         
-                    invokestatic Main/calculate()I
-                    pop
-                    return
-                .end method
-                """;
-    }
-
-    @Override
-    public String visit(FuncDeclaration funcDeclaration) {
-        String func_name = funcDeclaration.getName().getName();
-        StringBuilder buffer = new StringBuilder();
-        StringBuilder stmts = new StringBuilder();
-        buffer.append(".method public static ").append(func_name).append("()I").append('\n');
-
-        for (Statement statement : funcDeclaration.getStatements()){
-            if (statement instanceof VarDecStmt || statement instanceof AssignStmt || statement instanceof ReturnStmt)
-                stmts.append(statement.accept(this)).append('\n');
-        }
-        buffer.append(".limit stack ").append(max_stack).append('\n');
-        buffer.append(".limit locals ").append(max_local).append("\n\n");
-        buffer.append(stmts);
-        buffer.append(".end method").append('\n');
-        return buffer.toString();
-    }
-
-    @Override
-    public String visit(AssignStmt assignStmt) {
-        StringBuilder buffer = new StringBuilder();
-        if (assignStmt.getRValue() != null)
-            buffer.append(assignStmt.getRValue().accept(this));
-        Identifier identifier = (Identifier)assignStmt.getLValue();
-        int slot = slotsOf(identifier.getName());
-        if (slot <= 3)
-            buffer.append('\t').append("istore_").append(slot).append('\n');
-        else
-            buffer.append('\t').append("istore ").append(slot).append('\n');
-        current_stack -= 1;
-
-        return buffer.toString();
-    }
-    @Override
-    public String visit(ReturnStmt returnStmt) {
-        StringBuilder buffer = new StringBuilder();
-        if (returnStmt.getExpression() != null)
-            buffer.append(returnStmt.getExpression().accept(this));
-        buffer.append('\t').append("ireturn").append('\n');
-        return buffer.toString();
-    }
-
-    @Override
-    public String visit(VarDecStmt varDecStmt) {
-        StringBuilder buffer = new StringBuilder();
-        if (varDecStmt.getInitialExpression() != null) {
-            current_stack -= 1;
-            buffer.append(varDecStmt.getInitialExpression().accept(this));
-            int slot = slotsOf(varDecStmt.getIdentifier().getName());
-            if (slot <= 3)
-                buffer.append('\t').append("istore_").append(slot).append('\n');
-            else
-                buffer.append('\t').append("istore ").append(slot).append('\n');
-        }
-        return buffer.toString();
-    }
-    @Override
-    public String visit(BinaryExpression binaryExpression) {
-        StringBuilder buffer = new StringBuilder();
-
-        if (binaryExpression.getLeft() != null)
-            buffer.append(binaryExpression.getLeft().accept(this));
-
-        if (binaryExpression.getRight() != null)
-            buffer.append(binaryExpression.getRight().accept(this));
-
-        buffer.append('\t').append(getOprInst(binaryExpression.getBinaryOperator())).append('\n');
-        return buffer.toString();
-    }
-    @Override
-    public String visit(UnaryExpression unaryExpression) {
-        StringBuilder buffer = new StringBuilder();
-        if (unaryExpression.getOperand() != null)
-            buffer.append(unaryExpression.getOperand().accept(this));
-        if (unaryExpression.getUnaryOperator().equals(UnaryOperator.minus))
-            buffer.append('\t').append("ineg").append('\n');
-        return buffer.toString();
-    }
-    @Override
-    public String visit(Identifier identifier) {
-        StringBuilder buffer = new StringBuilder();
-        int slot = slotsOf(identifier.getName());
-        current_stack += 1;
-        if (max_stack < current_stack)
-            max_stack = current_stack;
-
-        if (slot <= 3)
-            buffer.append('\t').append("iload_").append(slot).append('\n');
-        else
-            buffer.append('\t').append("iload ").append(slot).append('\n');
-        return buffer.toString();
-    }
-
-    @Override
-    public String visit(IntValue value) {
-        return "\t" + getIntInst(value.getConstant()) + "\n";
-    }
-}
+package visitor.codeGenerator;
+
+import ast.node.Program;
+import ast.node.declaration.ArgDeclaration;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.ArrayAccess;
+import ast.node.expression.BinaryExpression;
+import ast.node.expression.Expression;
+import ast.node.expression.FunctionCall;
+import ast.node.expression.Identifier;
+import ast.node.expression.QueryExpression;
+import ast.node.expression.UnaryExpression;
+import ast.node.expression.operators.BinaryOperator;
+import ast.node.expression.operators.UnaryOperator;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.node.statement.ArrayDecStmt;
+import ast.node.statement.AssignStmt;
+import ast.node.statement.ForloopStmt;
+import ast.node.statement.FunctionCallStmt;
+import ast.node.statement.ImplicationStmt;
+import ast.node.statement.PredicateStmt;
+import ast.node.statement.PrintStmt;
+import ast.node.statement.ReturnStmt;
+import ast.node.statement.Statement;
+import ast.node.statement.VarDecStmt;
+import ast.type.Type;
+import ast.type.primitiveType.BooleanType;
+import ast.type.primitiveType.FloatType;
+import ast.type.primitiveType.IntType;
+import visitor.Visitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+public class CodeGenerator extends Visitor<Void> {
+
+    private final ClassFileWriter classFile = new ClassFileWriter(ClassFileWriter.ACC_PUBLIC, "Main", "java/lang/Object");
+    // Receives a Jasmin listing of the class when it is to be printed, or null.
+    private final Appendable listing;
+    // Body of the method being generated; it is held back only until its
+    // limits are known and then added to the class in one go.
+    private final ArrayList<Instruction> code = new ArrayList<>();
+
+    // Local variable slots of the method being generated, by name.
+    private HashMap<String, Integer> slots = new HashMap<>();
+    private final HashMap<String, Type> types = new HashMap<>();
+    private HashMap<String, ArrayDecStmt> arrays = new HashMap<>();
+    private int nextSlot = 0;
+    private int nextLabel = 0;
+
+    private final HashMap<String, FuncDeclaration> functions = new HashMap<>();
+    // Functions whose results are cached, with their MemoTable index.
+    private final Set<String> memoized;
+    private final HashMap<String, Integer> memoTables = new HashMap<>();
+    private final TypeResolver typeResolver = new TypeResolver(types, functions);
+    private Type returnType;
+    // The function being generated, null in main, and the label of its
+    // first instruction once a tail call has jumped to it.
+    private FuncDeclaration function;
+    private String startLabel;
+    // Dense FactStore index of each predicate, in order of first use.
+    private final HashMap<String, Integer> predicates = new HashMap<>();
+
+    public CodeGenerator() {
+        this(null, new HashSet<>());
+    }
+
+    public CodeGenerator(Appendable listing, Set<String> memoized) {
+        this.listing = listing;
+        this.memoized = memoized;
+    }
+
+    public byte[] toByteArray() {
+        return classFile.toByteArray();
+    }
+
+    private void write(CharSequence text) {
+        if (listing == null)
+            return;
+        try {
+            listing.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeMethod(String signature, int parameterSlots) {
+        writeMethod(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_STATIC, signature, parameterSlots);
+    }
+
+    private void writeMethod(int access, String signature, int parameterSlots) {
+        PeepholeOptimizer.optimize(code);
+        StackAnalyzer stackAnalyzer = new StackAnalyzer(code, parameterSlots);
+        int paren = signature.indexOf('(');
+        classFile.addMethod(access, signature.substring(0, paren), signature.substring(paren), code,
+                stackAnalyzer.getMaxStack(), stackAnalyzer.getMaxLocals());
+
+        boolean isStatic = (access & ClassFileWriter.ACC_STATIC) != 0;
+        write(".method public " + (isStatic ? "static " : "") + signature + "\n");
+        write(".limit stack " + stackAnalyzer.getMaxStack() + "\n");
+        write(".limit locals " + stackAnalyzer.getMaxLocals() + "\n");
+        for (Instruction instruction : code)
+            write(instruction + "\n");
+        write(".end method\n\n");
+    }
+
+    private void emit(String opcode) {
+        code.add(new Instruction(opcode));
+    }
+
+    private void emit(String opcode, String operand) {
+        code.add(new Instruction(opcode, operand));
+    }
+
+    private String newLabel() {
+        return "Label" + nextLabel++;
+    }
+
+    private void emitLabel(String label) {
+        code.add(Instruction.label(label));
+    }
+
+    private void resetSlots() {
+        code.clear();
+        slots.clear();
+        types.clear();
+        arrays.clear();
+        nextSlot = 0;
+    }
+
+    private int declare(String variable, Type type) {
+        slots.put(variable, nextSlot);
+        types.put(variable, type);
+        return nextSlot++;
+    }
+
+    // Runs the statements of a nested block. Names it declares go out of
+    // scope afterwards, but their slots are not reused.
+    private void visitBlock(ArrayList<Statement> statements) {
+        HashMap<String, Integer> outerSlots = new HashMap<>(slots);
+        HashMap<String, Type> outerTypes = new HashMap<>(types);
+        HashMap<String, ArrayDecStmt> outerArrays = new HashMap<>(arrays);
+        visitStatements(statements);
+        slots = outerSlots;
+        arrays = outerArrays;
+        types.clear();
+        types.putAll(outerTypes);
+    }
+
+    private void visitStatements(ArrayList<Statement> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            FunctionCall tailCall = null;
+            if (i + 1 < statements.size())
+                tailCall = getTailCall(statements.get(i), statements.get(i + 1));
+            if (tailCall != null) {
+                emitTailCall(tailCall);
+                i++;
+            }
+            else
+                statements.get(i).accept(this);
+        }
+    }
+
+    // Returns only take a variable, so a call in tail position is
+    // "x = f(...); return x;" (or a declaration of x) where f is the
+    // function being generated. Returns the call, or null.
+    private FunctionCall getTailCall(Statement statement, Statement next) {
+        if (function == null || !(next instanceof ReturnStmt returnStmt)
+                || !(returnStmt.getExpression() instanceof Identifier returned))
+            return null;
+        String name;
+        Expression value;
+        if (statement instanceof VarDecStmt varDecStmt) {
+            name = varDecStmt.getIdentifier().getName();
+            value = varDecStmt.getInitialExpression();
+        }
+        else if (statement instanceof AssignStmt assignStmt && assignStmt.getLValue() instanceof Identifier identifier) {
+            name = identifier.getName();
+            value = assignStmt.getRValue();
+        }
+        else
+            return null;
+
+        if (name.equals(returned.getName()) && value instanceof FunctionCall functionCall
+                && functionCall.getUFuncName().getName().equals(function.getName().getName()))
+            return functionCall;
+        return null;
+    }
+
+    // The arguments become the new parameter values and the method starts
+    // over, so the recursion runs in a single frame.
+    private void emitTailCall(FunctionCall functionCall) {
+        for (Expression arg : functionCall.getArgs())
+            arg.accept(this);
+        ArrayList<ArgDeclaration> args = function.getArgs();
+        for (int i = args.size() - 1; i >= 0; i--)
+            emitLocal(getPrefix(args.get(i).getType()) + "store", slots.get(args.get(i).getIdentifier().getName()));
+        if (startLabel == null)
+            startLabel = newLabel();
+        emit("goto", startLabel);
+    }
+
+    // TypeAnalyzer has reported every undeclared name, so a missing slot is
+    // a bug in an earlier pass.
+    private int slotsOf(String variable){
+        Integer slot = slots.get(variable);
+        if (slot == null)
+            throw new IllegalArgumentException("Variable " + variable + " has no local slot");
+        return slot;
+    }
+
+    private void emitLocal(String opcode, int slot) {
+        code.add(Instruction.local(opcode, slot));
+    }
+
+    private Instruction getIntInst(int num){
+        return Instruction.intConstant(num);
+    }
+
+    private Type typeOf(Expression expression) {
+        return expression.accept(typeResolver);
+    }
+
+    // Booleans live on the stack and in locals as int 0 or 1, so only
+    // floats need instructions of their own.
+    private String getPrefix(Type type) {
+        if (type instanceof FloatType)
+            return "f";
+        return "i";
+    }
+
+    private void emitDefault(Type type) {
+        if (type instanceof FloatType)
+            code.add(Instruction.floatConstant(0));
+        else
+            code.add(getIntInst(0));
+    }
+
+    // Element instruction prefix; boolean arrays are byte arrays to the JVM.
+    private String getArrayPrefix(Type type) {
+        if (type instanceof BooleanType)
+            return "b";
+        return getPrefix(type);
+    }
+
+    private String getDescriptor(Type type) {
+        if (type instanceof FloatType)
+            return "F";
+        if (type instanceof BooleanType)
+            return "Z";
+        return "I";
+    }
+
+    private void emitPredicate(Identifier predicate) {
+        Integer index = predicates.get(predicate.getName());
+        if (index == null) {
+            index = predicates.size();
+            predicates.put(predicate.getName(), index);
+        }
+        code.add(getIntInst(index));
+    }
+
+    // FactStore has a method per argument type, named with this suffix.
+    private String getFactSuffix(Type type) {
+        if (type instanceof FloatType)
+            return "Float";
+        if (type instanceof BooleanType)
+            return "Boolean";
+        return "Int";
+    }
+
+    private String getSignature(FuncDeclaration funcDeclaration) {
+        return getSignature(funcDeclaration.getName().getName(), funcDeclaration);
+    }
+
+    private String getSignature(String name, FuncDeclaration funcDeclaration) {
+        StringBuilder signature = new StringBuilder(name).append('(');
+        for (ArgDeclaration argDeclaration : funcDeclaration.getArgs())
+            signature.append(getDescriptor(argDeclaration.getType()));
+        return signature.append(')').append(getDescriptor(funcDeclaration.getType())).toString();
+    }
+
+    // Methods may not fall off their end, so a function whose last
+    // statement isn't a return or tail call gets one that returns the
+    // default value.
+    private boolean endsWithReturn() {
+        if (code.isEmpty())
+            return false;
+        Instruction last = code.get(code.size() - 1);
+        return !last.isLabel() && last.endsFlow();
+    }
+
+    private String getOprInst(BinaryOperator binaryOperator, Type type){
+        String prefix = getPrefix(type);
+        if(binaryOperator.equals(BinaryOperator.add))
+            return prefix + "add";
+        if (binaryOperator.equals(BinaryOperator.sub))
+            return prefix + "sub";
+        if (binaryOperator.equals(BinaryOperator.mult))
+            return prefix + "mul";
+        if (binaryOperator.equals(BinaryOperator.div))
+            return prefix + "div";
+
+        return prefix + "rem";
+    }
+
+    // Suffix of the if<cond> that jumps when "left operator right" holds,
+    // or when it doesn't if negate is set.
+    private String getCondition(BinaryOperator operator, boolean negate) {
+        if (negate)
+            operator = switch (operator) {
+                case eq -> BinaryOperator.neq;
+                case neq -> BinaryOperator.eq;
+                case gt -> BinaryOperator.lte;
+                case gte -> BinaryOperator.lt;
+                case lt -> BinaryOperator.gte;
+                default -> BinaryOperator.gt;
+            };
+        return switch (operator) {
+            case eq -> "eq";
+            case neq -> "ne";
+            case gt -> "gt";
+            case gte -> "ge";
+            case lt -> "lt";
+            default -> "le";
+        };
+    }
+
+    // Jumps to target when condition evaluates to jumpIf and falls through
+    // otherwise. && and || only evaluate their right operand when needed.
+    private void emitCondition(Expression condition, String target, boolean jumpIf) {
+        if (condition instanceof BooleanValue value) {
+            if (value.getConstant() == jumpIf)
+                emit("goto", target);
+            return;
+        }
+        if (condition instanceof UnaryExpression unaryExpression && unaryExpression.getUnaryOperator() == UnaryOperator.not) {
+            emitCondition(unaryExpression.getOperand(), target, !jumpIf);
+            return;
+        }
+        if (!(condition instanceof BinaryExpression binaryExpression)) {
+            condition.accept(this);
+            emit(jumpIf ? "ifne" : "ifeq", target);
+            return;
+        }
+
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        Expression left = binaryExpression.getLeft();
+        Expression right = binaryExpression.getRight();
+        if (operator == BinaryOperator.and || operator == BinaryOperator.or) {
+            // a && b jumps on false as soon as a is false; a || b jumps on true as soon as a is true
+            boolean shortCircuit = operator == BinaryOperator.or;
+            if (jumpIf == shortCircuit) {
+                emitCondition(left, target, jumpIf);
+                emitCondition(right, target, jumpIf);
+            }
+            else {
+                String skip = newLabel();
+                emitCondition(left, skip, shortCircuit);
+                emitCondition(right, target, jumpIf);
+                emitLabel(skip);
+            }
+            return;
+        }
+        if (!TypeResolver.isComparison(operator)) {
+            condition.accept(this);
+            emit(jumpIf ? "ifne" : "ifeq", target);
+            return;
+        }
+
+        left.accept(this);
+        right.accept(this);
+        if (typeOf(left) instanceof FloatType) {
+            // NaN compares as unordered, which must make <, <=, >, >= false
+            boolean less = operator == BinaryOperator.lt || operator == BinaryOperator.lte;
+            emit(less ? "fcmpg" : "fcmpl");
+            emit("if" + getCondition(operator, !jumpIf), target);
+        }
+        else
+            emit("if_icmp" + getCondition(operator, !jumpIf), target);
+    }
+
+    @Override
+    public Void visit(Program program) {
+        write(".class public Main\n.super java/lang/Object\n\n");
+        resetSlots();
+        emitLocal("aload", 0);
+        emit("invokespecial", "java/lang/Object/<init>()V");
+        emit("return");
+        writeMethod(ClassFileWriter.ACC_PUBLIC, "<init>()V", 1);
+
+        for (FuncDeclaration funcDeclaration : program.getFuncs()) {
+            String name = funcDeclaration.getName().getName();
+            functions.put(name, funcDeclaration);
+            // MemoTable keys hold two arguments
+            if (memoized.contains(name) && funcDeclaration.getArgs().size() <= 2)
+                memoTables.put(name, memoTables.size());
+        }
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MainDeclaration mainDeclaration) {
+        resetSlots();
+        nextSlot = 1;
+        function = null;
+        returnType = null;
+        if (!memoTables.isEmpty()) {
+            code.add(getIntInst(memoTables.size()));
+            emit("invokestatic", "runtime/MemoTable/init(I)V");
+        }
+        visitStatements(mainDeclaration.getMainStatements());
+        emit("return");
+        if (!predicates.isEmpty()) {
+            code.add(0, new Instruction("invokestatic", "runtime/FactStore/init(I)V"));
+            code.add(0, getIntInst(predicates.size()));
+        }
+        writeMethod("main([Ljava/lang/String;)V", 1);
+        return null;
+    }
+
+    @Override
+    public Void visit(FuncDeclaration funcDeclaration) {
+        resetSlots();
+        returnType = funcDeclaration.getType();
+        function = funcDeclaration;
+        startLabel = null;
+        for (ArgDeclaration argDeclaration : funcDeclaration.getArgs())
+            declare(argDeclaration.getIdentifier().getName(), argDeclaration.getType());
+
+        visitStatements(funcDeclaration.getStatements());
+        if (!endsWithReturn()) {
+            emitDefault(returnType);
+            emit(getPrefix(returnType) + "return");
+        }
+        if (startLabel != null)
+            code.add(0, Instruction.label(startLabel));
+
+        String name = funcDeclaration.getName().getName();
+        if (!memoTables.containsKey(name)) {
+            writeMethod(getSignature(funcDeclaration), funcDeclaration.getArgs().size());
+            return null;
+        }
+        writeMethod(getSignature(name + "$body", funcDeclaration), funcDeclaration.getArgs().size());
+        writeMemoizedMethod(funcDeclaration);
+        return null;
+    }
+
+    // The method callers see for a memoized function: it returns the
+    // cached result if there is one, and otherwise calls name$body and
+    // caches what it returns. Recursive calls go through here too.
+    private void writeMemoizedMethod(FuncDeclaration funcDeclaration) {
+        String name = funcDeclaration.getName().getName();
+        ArrayList<ArgDeclaration> args = funcDeclaration.getArgs();
+        Type type = funcDeclaration.getType();
+        int table = memoTables.get(name);
+        int slot = args.size();
+        String missLabel = newLabel();
+        resetSlots();
+
+        code.add(getIntInst(table));
+        emitMemoKeys(args);
+        emit("invokestatic", "runtime/MemoTable/find(III)I");
+        emitLocal("istore", slot);
+        emitLocal("iload", slot);
+        emit("iflt", missLabel);
+        code.add(getIntInst(table));
+        emitLocal("iload", slot);
+        emit("invokestatic", "runtime/MemoTable/get(II)I");
+        if (type instanceof FloatType)
+            emit("invokestatic", "java/lang/Float/intBitsToFloat(I)F");
+        emit(getPrefix(type) + "return");
+
+        emitLabel(missLabel);
+        code.add(getIntInst(table));
+        emitMemoKeys(args);
+        for (int i = 0; i < args.size(); i++)
+            emitLocal(getPrefix(args.get(i).getType()) + "load", i);
+        emit("invokestatic", "Main/" + getSignature(name + "$body", funcDeclaration));
+        if (type instanceof FloatType)
+            emit("invokestatic", "java/lang/Float/floatToRawIntBits(F)I");
+        emit("invokestatic", "runtime/MemoTable/put(IIII)I");
+        if (type instanceof FloatType)
+            emit("invokestatic", "java/lang/Float/intBitsToFloat(I)F");
+        emit(getPrefix(type) + "return");
+        writeMethod(getSignature(funcDeclaration), args.size());
+    }
+
+    // Pushes the two int keys of a call: each argument, floats by their
+    // bits, and 0 for the ones it doesn't have.
+    private void emitMemoKeys(ArrayList<ArgDeclaration> args) {
+        for (int i = 0; i < 2; i++) {
+            if (i >= args.size()) {
+                code.add(getIntInst(0));
+                continue;
+            }
+            Type type = args.get(i).getType();
+            emitLocal(getPrefix(type) + "load", i);
+            if (type instanceof FloatType)
+                emit("invokestatic", "java/lang/Float/floatToRawIntBits(F)I");
+        }
+    }
+
+    @Override
+    public Void visit(AssignStmt assignStmt) {
+        if (assignStmt.getLValue() instanceof ArrayAccess arrayAccess) {
+            emitLocal("aload", slotsOf(arrayAccess.getName()));
+            arrayAccess.getIndex().accept(this);
+            assignStmt.getRValue().accept(this);
+            emit(getArrayPrefix(typeOf(arrayAccess)) + "astore");
+            return null;
+        }
+
+        Identifier identifier = (Identifier)assignStmt.getLValue();
+        Type type = typeOf(identifier);
+        Integer increment = getIncrement(identifier.getName(), assignStmt.getRValue());
+        if (increment != null && type instanceof IntType) {
+            code.add(Instruction.iinc(slotsOf(identifier.getName()), increment));
+            return null;
+        }
+
+        if (assignStmt.getRValue() != null)
+            assignStmt.getRValue().accept(this);
+        emitLocal(getPrefix(type) + "store", slotsOf(identifier.getName()));
+        return null;
+    }
+
+    // The constant c when value is "name + c", "c + name" or "name - c"
+    // and c fits the signed 16 bit operand of iinc; null otherwise.
+    private Integer getIncrement(String name, Expression value) {
+        if (!(value instanceof BinaryExpression binaryExpression))
+            return null;
+        Expression left = binaryExpression.getLeft();
+        Expression right = binaryExpression.getRight();
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+
+        long increment;
+        if (left instanceof Identifier variable && variable.getName().equals(name) && right instanceof IntValue constant) {
+            if (operator == BinaryOperator.add)
+                increment = constant.getConstant();
+            else if (operator == BinaryOperator.sub)
+                increment = -(long) constant.getConstant();
+            else
+                return null;
+        }
+        else if (right instanceof Identifier variable && variable.getName().equals(name) && left instanceof IntValue constant
+                && operator == BinaryOperator.add)
+            increment = constant.getConstant();
+        else
+            return null;
+
+        if (increment < Short.MIN_VALUE || increment > Short.MAX_VALUE)
+            return null;
+        return (int) increment;
+    }
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        // main returns nothing, and TypeAnalyzer only lets a bare return
+        // through there.
+        if (returnType == null) {
+            emit("return");
+            return null;
+        }
+        if (returnStmt.getExpression() != null)
+            returnStmt.getExpression().accept(this);
+        else
+            emitDefault(returnType);
+        emit(getPrefix(returnType) + "return");
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDecStmt varDecStmt) {
+        Type type = varDecStmt.getType();
+        // Locals must be assigned before the verifier lets them be read, so
+        // a declaration without an initializer stores the default value.
+        if (varDecStmt.getInitialExpression() != null)
+            varDecStmt.getInitialExpression().accept(this);
+        else
+            emitDefault(type);
+        emitLocal(getPrefix(type) + "store", declare(varDecStmt.getIdentifier().getName(), type));
+        return null;
+    }
+
+    // The array is created with its declared size, which the TypeAnalyzer
+    // has checked constant indices and the initializer against.
+    @Override
+    public Void visit(ArrayDecStmt arrayDecStmt) {
+        Type type = arrayDecStmt.getType();
+        String prefix = getArrayPrefix(type);
+        code.add(getIntInst(arrayDecStmt.getArrSize()));
+        emit("newarray", type.toString());
+        ArrayList<Expression> initialValues = arrayDecStmt.getInitialValues();
+        for (int i = 0; i < initialValues.size(); i++) {
+            emit("dup");
+            code.add(getIntInst(i));
+            initialValues.get(i).accept(this);
+            emit(prefix + "astore");
+        }
+        String name = arrayDecStmt.getIdentifier().getName();
+        emitLocal("astore", declare(name, type));
+        arrays.put(name, arrayDecStmt);
+        return null;
+    }
+
+    @Override
+    public Void visit(ImplicationStmt implicationStmt) {
+        String endLabel = newLabel();
+        emitCondition(implicationStmt.getCondition(), endLabel, false);
+        visitBlock(implicationStmt.getStatements());
+        emitLabel(endLabel);
+        return null;
+    }
+
+    // for (i : a) is compiled the way javac compiles a counted loop over an
+    // int index, with the test at the bottom and the declared size as the
+    // bound, so HotSpot sees a loop it can unroll and range-check eliminate.
+    // A loop the LoopUnroller marked runs unrollFactor copies of the body
+    // per pass and the iterations left over after the last pass are
+    // copied after it; a loop unrolled by its full size needs no index.
+    @Override
+    public Void visit(ForloopStmt forloopStmt) {
+        String arrayName = forloopStmt.getArrayName().getName();
+        int arraySlot = slotsOf(arrayName);
+        ArrayDecStmt arrayDecStmt = arrays.get(arrayName);
+        int factor = arrayDecStmt == null ? 1 : forloopStmt.getUnrollFactor();
+        int size = arrayDecStmt == null ? 0 : arrayDecStmt.getArrSize();
+        int looped = size - size % factor;
+        boolean full = factor > 1 && factor >= size;
+
+        if (!full) {
+            int index = nextSlot++;
+            String bodyLabel = newLabel();
+            String testLabel = newLabel();
+            code.add(getIntInst(0));
+            emitLocal("istore", index);
+            emit("goto", testLabel);
+
+            emitLabel(bodyLabel);
+            for (int offset = 0; offset < factor; offset++)
+                emitIteration(forloopStmt, arraySlot, index, offset);
+            code.add(Instruction.iinc(index, factor));
+
+            emitLabel(testLabel);
+            emitLocal("iload", index);
+            if (arrayDecStmt != null)
+                code.add(getIntInst(looped));
+            else {
+                emitLocal("aload", arraySlot);
+                emit("arraylength");
+            }
+            emit("if_icmplt", bodyLabel);
+        }
+
+        for (int i = full ? 0 : looped; i < size && factor > 1; i++)
+            emitIteration(forloopStmt, arraySlot, -1, i);
+        return null;
+    }
+
+    // One pass over the loop body for the element at index + offset, or
+    // at offset alone when index is -1. Locals the body declares are out
+    // of scope after it, so each copy reuses the same slots.
+    private void emitIteration(ForloopStmt forloopStmt, int arraySlot, int index, int offset) {
+        String iterator = forloopStmt.getIterator().getName();
+        Type type = typeOf(forloopStmt.getArrayName());
+        Integer outerSlot = slots.get(iterator);
+        Type outerType = types.get(iterator);
+        int firstFreeSlot = nextSlot;
+
+        emitLocal("aload", arraySlot);
+        if (index == -1)
+            code.add(getIntInst(offset));
+        else {
+            emitLocal("iload", index);
+            if (offset != 0) {
+                code.add(getIntInst(offset));
+                emit("iadd");
+            }
+        }
+        emit(getArrayPrefix(type) + "aload");
+        emitLocal(getPrefix(type) + "store", declare(iterator, type));
+        visitBlock(forloopStmt.getStatements());
+
+        nextSlot = firstFreeSlot;
+        if (outerSlot == null) {
+            slots.remove(iterator);
+            types.remove(iterator);
+        }
+        else {
+            slots.put(iterator, outerSlot);
+            types.put(iterator, outerType);
+        }
+    }
+
+    @Override
+    public Void visit(FunctionCallStmt functionCallStmt) {
+        functionCallStmt.getFunctionCall().accept(this);
+        emit("pop");
+        return null;
+    }
+
+    @Override
+    public Void visit(PredicateStmt predicateStmt) {
+        Type type = typeOf(predicateStmt.getVar());
+        emitPredicate(predicateStmt.getIdentifier());
+        predicateStmt.getVar().accept(this);
+        emit("invokestatic", "runtime/FactStore/assert" + getFactSuffix(type) + "(I" + getDescriptor(type) + ")V");
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt printStmt) {
+        if (printStmt.getArg() instanceof QueryExpression queryExpression && queryExpression.getVar() == null) {
+            emitPredicate(queryExpression.getPredicateName());
+            emit("invokestatic", "runtime/FactStore/printAll(I)V");
+            return null;
+        }
+        emit("getstatic", "java/lang/System/out Ljava/io/PrintStream;");
+        printStmt.getArg().accept(this);
+        emit("invokevirtual", "java/io/PrintStream/println(" + getDescriptor(typeOf(printStmt.getArg())) + ")V");
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        if (TypeResolver.isComparison(operator) || operator == BinaryOperator.and || operator == BinaryOperator.or) {
+            String falseLabel = newLabel();
+            String endLabel = newLabel();
+            emitCondition(binaryExpression, falseLabel, false);
+            emit("iconst_1");
+            emit("goto", endLabel);
+            emitLabel(falseLabel);
+            emit("iconst_0");
+            emitLabel(endLabel);
+            return null;
+        }
+
+        binaryExpression.getLeft().accept(this);
+        binaryExpression.getRight().accept(this);
+        emit(getOprInst(operator, typeOf(binaryExpression)));
+        return null;
+    }
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        unaryExpression.getOperand().accept(this);
+        if (unaryExpression.getUnaryOperator().equals(UnaryOperator.minus))
+            emit(getPrefix(typeOf(unaryExpression)) + "neg");
+        else if (unaryExpression.getUnaryOperator().equals(UnaryOperator.not)) {
+            emit("iconst_1");
+            emit("ixor");
+        }
+        return null;
+    }
+    @Override
+    public Void visit(Identifier identifier) {
+        emitLocal(getPrefix(typeOf(identifier)) + "load", slotsOf(identifier.getName()));
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayAccess arrayAccess) {
+        emitLocal("aload", slotsOf(arrayAccess.getName()));
+        arrayAccess.getIndex().accept(this);
+        emit(getArrayPrefix(typeOf(arrayAccess)) + "aload");
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCall functionCall) {
+        for (Expression arg : functionCall.getArgs())
+            arg.accept(this);
+        FuncDeclaration funcDeclaration = functions.get(functionCall.getUFuncName().getName());
+        emit("invokestatic", "Main/" + getSignature(funcDeclaration));
+        return null;
+    }
+
+    @Override
+    public Void visit(QueryExpression queryExpression) {
+        Type type = typeOf(queryExpression.getVar());
+        emitPredicate(queryExpression.getPredicateName());
+        queryExpression.getVar().accept(this);
+        emit("invokestatic", "runtime/FactStore/query" + getFactSuffix(type) + "(I" + getDescriptor(type) + ")Z");
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue value) {
+        code.add(getIntInst(value.getConstant()));
+        return null;
+    }
+
+    @Override
+    public Void visit(FloatValue value) {
+        code.add(Instruction.floatConstant(value.getConstant()));
+        return null;
+    }
+
+    @Override
+    public Void visit(BooleanValue value) {
+        code.add(getIntInst(value.getConstant() ? 1 : 0));
+        return null;
+    }
+}
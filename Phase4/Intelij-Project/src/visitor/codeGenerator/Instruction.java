@@ -0,0 +1,322 @@
+package visitor.codeGenerator;
+
+import java.util.HashMap;
+
+// One JVM instruction of a method body, or a label. The opcode and its
+// operands are decoded when the instruction is made, so the passes over a
+// body compare ints; toString renders the instruction as a line of Jasmin.
+public class Instruction {
+
+    // How an opcode's operand is encoded
+    static final int NONE = 0;
+    static final int LOCAL = 1;
+    static final int INCREMENT = 2;
+    static final int BRANCH = 3;
+    static final int BYTE = 4;
+    static final int SHORT = 5;
+    static final int CONSTANT = 6;
+    static final int FIELD = 7;
+    static final int METHOD = 8;
+    static final int CLASS = 9;
+    static final int NEWARRAY = 10;
+
+    public static final int LABEL = -1;
+    public static final int ICONST_M1 = 2;
+    public static final int ICONST_5 = 8;
+    public static final int FCONST_0 = 11;
+    public static final int FCONST_2 = 13;
+    public static final int BIPUSH = 16;
+    public static final int SIPUSH = 17;
+    public static final int LDC = 18;
+    public static final int ILOAD = 21;
+    public static final int ALOAD_3 = 45;
+    public static final int ISTORE = 54;
+    public static final int ASTORE_3 = 78;
+    public static final int POP = 87;
+    public static final int DUP = 89;
+    public static final int IADD = 96;
+    public static final int ISUB = 100;
+    public static final int INEG = 116;
+    public static final int FNEG = 118;
+    public static final int IINC = 132;
+    public static final int GOTO = 167;
+    public static final int IRETURN = 172;
+    public static final int RETURN = 177;
+    public static final int ATHROW = 191;
+
+    // Type of a load or store: the index of its prefix in "ilfda"
+    public static final int INT = 0;
+    public static final int FLOAT = 2;
+
+    private static final String[] names = new String[256];
+    private static final int[] kinds = new int[256];
+    private static final int[] stackEffects = new int[256];
+    private static final HashMap<String, Integer> opcodes = new HashMap<>();
+
+    private static void define(int kind, int opcode, String... mnemonics) {
+        for (int i = 0; i < mnemonics.length; i++) {
+            names[opcode + i] = mnemonics[i];
+            kinds[opcode + i] = kind;
+            opcodes.put(mnemonics[i], opcode + i);
+        }
+    }
+
+    private static void effect(int effect, String... mnemonics) {
+        for (String mnemonic : mnemonics)
+            stackEffects[opcodes.get(mnemonic)] = effect;
+    }
+
+    static {
+        define(NONE, 0, "nop", "aconst_null", "iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3",
+                "iconst_4", "iconst_5", "lconst_0", "lconst_1", "fconst_0", "fconst_1", "fconst_2");
+        define(NONE, 26, "iload_0", "iload_1", "iload_2", "iload_3", "lload_0", "lload_1", "lload_2", "lload_3",
+                "fload_0", "fload_1", "fload_2", "fload_3", "dload_0", "dload_1", "dload_2", "dload_3",
+                "aload_0", "aload_1", "aload_2", "aload_3",
+                "iaload", "laload", "faload", "daload", "aaload", "baload", "caload", "saload");
+        define(NONE, 59, "istore_0", "istore_1", "istore_2", "istore_3", "lstore_0", "lstore_1", "lstore_2", "lstore_3",
+                "fstore_0", "fstore_1", "fstore_2", "fstore_3", "dstore_0", "dstore_1", "dstore_2", "dstore_3",
+                "astore_0", "astore_1", "astore_2", "astore_3",
+                "iastore", "lastore", "fastore", "dastore", "aastore", "bastore", "castore", "sastore",
+                "pop", "pop2", "dup", "dup_x1", "dup_x2", "dup2", "dup2_x1", "dup2_x2", "swap",
+                "iadd", "ladd", "fadd", "dadd", "isub", "lsub", "fsub", "dsub",
+                "imul", "lmul", "fmul", "dmul", "idiv", "ldiv", "fdiv", "ddiv",
+                "irem", "lrem", "frem", "drem", "ineg", "lneg", "fneg", "dneg",
+                "ishl", "lshl", "ishr", "lshr", "iushr", "lushr", "iand", "land", "ior", "lor", "ixor", "lxor");
+        define(NONE, 133, "i2l", "i2f", "i2d", "l2i", "l2f", "l2d", "f2i", "f2l", "f2d", "d2i", "d2l", "d2f",
+                "i2b", "i2c", "i2s", "lcmp", "fcmpl", "fcmpg", "dcmpl", "dcmpg");
+        define(NONE, 172, "ireturn", "lreturn", "freturn", "dreturn", "areturn", "return");
+        define(NONE, 190, "arraylength", "athrow");
+        define(LOCAL, 21, "iload", "lload", "fload", "dload", "aload");
+        define(LOCAL, 54, "istore", "lstore", "fstore", "dstore", "astore");
+        define(INCREMENT, 132, "iinc");
+        define(BRANCH, 153, "ifeq", "ifne", "iflt", "ifge", "ifgt", "ifle", "if_icmpeq", "if_icmpne", "if_icmplt",
+                "if_icmpge", "if_icmpgt", "if_icmple", "if_acmpeq", "if_acmpne", "goto");
+        define(BRANCH, 198, "ifnull", "ifnonnull");
+        define(BYTE, 16, "bipush");
+        define(SHORT, 17, "sipush");
+        define(CONSTANT, 18, "ldc");
+        define(FIELD, 178, "getstatic", "putstatic");
+        define(METHOD, 182, "invokevirtual", "invokespecial", "invokestatic");
+        define(CLASS, 187, "new");
+        define(NEWARRAY, 188, "newarray");
+        define(CLASS, 189, "anewarray");
+        define(CLASS, 192, "checkcast", "instanceof");
+
+        // Int, float and reference opcodes only; long and double values
+        // never reach the stack.
+        effect(1, "aconst_null", "iconst_m1", "iconst_0", "iconst_1", "iconst_2", "iconst_3", "iconst_4", "iconst_5",
+                "fconst_0", "fconst_1", "fconst_2", "bipush", "sipush", "ldc", "dup", "dup_x1", "dup_x2", "new",
+                "iload", "fload", "aload", "iload_0", "iload_1", "iload_2", "iload_3",
+                "fload_0", "fload_1", "fload_2", "fload_3", "aload_0", "aload_1", "aload_2", "aload_3");
+        effect(2, "dup2");
+        effect(-1, "pop", "ireturn", "freturn", "areturn", "athrow", "ifeq", "ifne", "iflt", "ifge", "ifgt", "ifle",
+                "ifnull", "ifnonnull", "iaload", "faload", "baload", "caload", "saload", "aaload",
+                "iadd", "isub", "imul", "idiv", "irem", "iand", "ior", "ixor", "ishl", "ishr", "iushr",
+                "fadd", "fsub", "fmul", "fdiv", "frem", "fcmpl", "fcmpg",
+                "istore", "fstore", "astore", "istore_0", "istore_1", "istore_2", "istore_3",
+                "fstore_0", "fstore_1", "fstore_2", "fstore_3", "astore_0", "astore_1", "astore_2", "astore_3");
+        effect(-2, "pop2", "if_icmpeq", "if_icmpne", "if_icmplt", "if_icmpge", "if_icmpgt", "if_icmple",
+                "if_acmpeq", "if_acmpne");
+        effect(-3, "iastore", "fastore", "bastore", "castore", "sastore", "aastore");
+    }
+
+    private final int opcode;
+    // Slot of a local, value of a constant push, or slot of an iinc
+    private final int operand;
+    private final int increment;
+    private final boolean floatConstant;
+    // Name of a label or branch target, member reference, class or array type
+    private final String reference;
+    private final int stackEffect;
+
+    private Instruction(int opcode, int operand, int increment, boolean floatConstant, String reference) {
+        this.opcode = opcode;
+        this.operand = operand;
+        this.increment = increment;
+        this.floatConstant = floatConstant;
+        this.reference = reference;
+        this.stackEffect = opcode == LABEL ? 0 : computeStackEffect();
+    }
+
+    public Instruction(String mnemonic) {
+        this(mnemonic, null);
+    }
+
+    // An instruction whose only operand is a label, member reference,
+    // class or array type.
+    public Instruction(String mnemonic, String reference) {
+        this(opcodeOf(mnemonic), 0, 0, false, reference);
+        int kind = kinds[opcode];
+        boolean referenced = kind == BRANCH || kind == FIELD || kind == METHOD || kind == CLASS || kind == NEWARRAY;
+        if (referenced != (reference != null))
+            throw new IllegalArgumentException("Wrong operand for " + mnemonic);
+    }
+
+    public static Instruction label(String name) {
+        return new Instruction(LABEL, 0, 0, false, name);
+    }
+
+    public static Instruction intConstant(int num) {
+        if (num <= 5 && num >= -1)
+            return new Instruction(ICONST_M1 + 1 + num, 0, 0, false, null);
+        if (num <= (1 << 7) - 1 && num >= -(1 << 7))
+            return new Instruction(BIPUSH, num, 0, false, null);
+        if (num <= (1 << 15) - 1 && num >= -(1 << 15))
+            return new Instruction(SIPUSH, num, 0, false, null);
+        return new Instruction(LDC, num, 0, false, null);
+    }
+
+    public static Instruction floatConstant(float num) {
+        int bits = Float.floatToRawIntBits(num);
+        if (bits == Float.floatToRawIntBits(0) || bits == Float.floatToRawIntBits(1) || bits == Float.floatToRawIntBits(2))
+            return new Instruction(FCONST_0 + (int) num, 0, 0, false, null);
+        return new Instruction(LDC, bits, 0, true, null);
+    }
+
+    // A load or store of a local, in its short form when there is one.
+    public static Instruction local(String mnemonic, int slot) {
+        int opcode = opcodeOf(mnemonic);
+        if (kinds[opcode] != LOCAL)
+            throw new IllegalArgumentException(mnemonic + " doesn't take a local");
+        if (slot <= 3)
+            return new Instruction(opcodeOf(mnemonic + "_" + slot), 0, 0, false, null);
+        return new Instruction(opcode, slot, 0, false, null);
+    }
+
+    public static Instruction iinc(int slot, int increment) {
+        return new Instruction(IINC, slot, increment, false, null);
+    }
+
+    private static int opcodeOf(String mnemonic) {
+        Integer opcode = opcodes.get(mnemonic);
+        if (opcode == null)
+            throw new IllegalArgumentException("Unknown instruction " + mnemonic);
+        return opcode;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    int getKind() {
+        return kinds[opcode];
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public boolean isLabel() {
+        return opcode == LABEL;
+    }
+
+    public boolean isBranch() {
+        return !isLabel() && kinds[opcode] == BRANCH;
+    }
+
+    // Whether execution never continues with the next instruction.
+    public boolean endsFlow() {
+        return opcode == GOTO || opcode == ATHROW || (opcode >= IRETURN && opcode <= RETURN);
+    }
+
+    public boolean isLoad() {
+        return opcode >= ILOAD && opcode <= ALOAD_3;
+    }
+
+    public boolean isStore() {
+        return opcode >= ISTORE && opcode <= ASTORE_3;
+    }
+
+    // Value type of a load or store, as an index into "ilfda", or -1.
+    public int getLocalType() {
+        if (!isLoad() && !isStore())
+            return -1;
+        int offset = opcode - (isLoad() ? ILOAD : ISTORE);
+        return offset < 5 ? offset : (offset - 5) / 4;
+    }
+
+    // The local slot a load, store or iinc works on, or -1.
+    public int getLocalSlot() {
+        if (opcode == IINC)
+            return operand;
+        if (!isLoad() && !isStore())
+            return -1;
+        int offset = opcode - (isLoad() ? ILOAD : ISTORE);
+        return offset < 5 ? operand : (offset - 5) % 4;
+    }
+
+    public int getIncrement() {
+        return increment;
+    }
+
+    // The value an int constant push leaves on the stack, or null.
+    public Integer getIntConstant() {
+        if (opcode >= ICONST_M1 && opcode <= ICONST_5)
+            return opcode - ICONST_M1 - 1;
+        if (opcode == BIPUSH || opcode == SIPUSH || (opcode == LDC && !floatConstant))
+            return operand;
+        return null;
+    }
+
+    // The value a float constant push leaves on the stack, or null.
+    public Float getFloatConstant() {
+        if (opcode >= FCONST_0 && opcode <= FCONST_2)
+            return (float) (opcode - FCONST_0);
+        if (opcode == LDC && floatConstant)
+            return Float.intBitsToFloat(operand);
+        return null;
+    }
+
+    public int getStackEffect() {
+        return stackEffect;
+    }
+
+    private int computeStackEffect() {
+        int kind = kinds[opcode];
+        if (kind == FIELD) {
+            int size = typeSize(reference.substring(reference.indexOf(' ') + 1));
+            return names[opcode].equals("getstatic") ? size : -size;
+        }
+        if (kind != METHOD)
+            return stackEffects[opcode];
+
+        String descriptor = reference.substring(reference.indexOf('('));
+        int close = descriptor.indexOf(')');
+        int arguments = 0;
+        for (int i = 1; i < close; i++) {
+            boolean array = false;
+            char c = descriptor.charAt(i);
+            while (c == '[') {
+                array = true;
+                c = descriptor.charAt(++i);
+            }
+            if (c == 'L')
+                i = descriptor.indexOf(';', i);
+            arguments += !array && (c == 'J' || c == 'D') ? 2 : 1;
+        }
+        int receiver = names[opcode].equals("invokestatic") ? 0 : 1;
+        return typeSize(descriptor.substring(close + 1)) - arguments - receiver;
+    }
+
+    private static int typeSize(String descriptor) {
+        return switch (descriptor) {
+            case "V" -> 0;
+            case "J", "D" -> 2;
+            default -> 1;
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (isLabel())
+            return reference + ":";
+        String name = "\t" + names[opcode];
+        return switch (kinds[opcode]) {
+            case LOCAL, BYTE, SHORT -> name + " " + operand;
+            case INCREMENT -> name + " " + operand + " " + increment;
+            case CONSTANT -> name + " " + (floatConstant ? Float.toString(Float.intBitsToFloat(operand)) : Integer.toString(operand));
+            case NONE -> name;
+            default -> name + " " + reference;
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package visitor.codeGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Rewrites short instruction sequences of a method body into cheaper
+// equivalents, repeating until none of them applies any more.
+public class PeepholeOptimizer {
+
+    public static void optimize(ArrayList<Instruction> code) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < code.size(); i++)
+                changed |= rewrite(code, i);
+        }
+    }
+
+    private static boolean rewrite(ArrayList<Instruction> code, int i) {
+        Instruction first = code.get(i);
+        if (first.isLabel() || i + 1 >= code.size())
+            return false;
+        Instruction second = code.get(i + 1);
+        int a = first.getOpcode();
+
+        // goto L; L:
+        if (a == Instruction.GOTO && second.isLabel() && second.getReference().equals(first.getReference()))
+            return replace(code, i, 1);
+        if (second.isLabel())
+            return false;
+        int b = second.getOpcode();
+
+        // iload n; push c; iadd; istore n  ->  iinc n c
+        if (i + 3 < code.size()) {
+            Instruction third = code.get(i + 2);
+            Instruction fourth = code.get(i + 3);
+            if (!third.isLabel() && fourth.isStore() && fourth.getLocalType() == Instruction.INT) {
+                Integer increment = null;
+                int slot = fourth.getLocalSlot();
+                if (isIntLoad(first, slot) && second.getIntConstant() != null) {
+                    if (third.getOpcode() == Instruction.IADD)
+                        increment = second.getIntConstant();
+                    else if (third.getOpcode() == Instruction.ISUB)
+                        increment = -second.getIntConstant();
+                }
+                else if (isIntLoad(second, slot) && first.getIntConstant() != null && third.getOpcode() == Instruction.IADD)
+                    increment = first.getIntConstant();
+                if (increment != null && increment >= Short.MIN_VALUE && increment <= Short.MAX_VALUE)
+                    return replace(code, i, 4, Instruction.iinc(slot, increment));
+            }
+        }
+
+        // xstore n; xload n  ->  dup; xstore n
+        if (first.isStore() && second.isLoad() && first.getLocalType() == second.getLocalType()
+                && first.getLocalSlot() == second.getLocalSlot())
+            return replace(code, i, 2, new Instruction("dup"), first);
+
+        // A push whose value is popped straight away
+        if (b == Instruction.POP && isPush(first))
+            return replace(code, i, 2);
+
+        // push c; ineg  ->  push -c
+        if (b == Instruction.INEG && first.getIntConstant() != null)
+            return replace(code, i, 2, Instruction.intConstant(-first.getIntConstant()));
+
+        // push c; fneg  ->  push -c
+        Float constant = first.getFloatConstant();
+        if (b == Instruction.FNEG && constant != null)
+            return replace(code, i, 2, Instruction.floatConstant(-constant));
+
+        // push 0; iadd
+        Integer zero = first.getIntConstant();
+        if ((b == Instruction.IADD || b == Instruction.ISUB) && zero != null && zero == 0)
+            return replace(code, i, 2);
+
+        return false;
+    }
+
+    private static boolean isIntLoad(Instruction instruction, int slot) {
+        return instruction.isLoad() && instruction.getLocalType() == Instruction.INT && instruction.getLocalSlot() == slot;
+    }
+
+    private static boolean isPush(Instruction instruction) {
+        return instruction.isLoad() || instruction.getIntConstant() != null || instruction.getFloatConstant() != null
+                || instruction.getOpcode() == Instruction.DUP;
+    }
+
+    private static boolean replace(ArrayList<Instruction> code, int index, int length, Instruction... replacement) {
+        List<Instruction> window = code.subList(index, index + length);
+        window.clear();
+        window.addAll(List.of(replacement));
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+package visitor.codeGenerator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+// Computes the exact operand stack depth a method body needs by following
+// every path through its instructions, and the number of local slots it uses.
+// Malformed code is reported with IllegalArgumentException, like the rest
+// of code generation.
+public class StackAnalyzer {
+
+    private final ArrayList<Instruction> code;
+    private final HashMap<String, Integer> labels = new HashMap<>();
+    private int maxStack = 0;
+    private int maxLocals;
+
+    public StackAnalyzer(ArrayList<Instruction> code, int parameterSlots) {
+        this.code = code;
+        this.maxLocals = parameterSlots;
+        // Slots are counted over every instruction, reachable or not: the
+        // verifier checks local indices in dead code as well.
+        for (int i = 0; i < code.size(); i++) {
+            Instruction instruction = code.get(i);
+            if (instruction.isLabel())
+                labels.put(instruction.getReference(), i);
+            else
+                maxLocals = Math.max(maxLocals, instruction.getLocalSlot() + 1);
+        }
+        analyze();
+    }
+
+    public int getMaxStack() {
+        return maxStack;
+    }
+
+    public int getMaxLocals() {
+        return maxLocals;
+    }
+
+    private void analyze() {
+        int[] depths = new int[code.size()];
+        Arrays.fill(depths, -1);
+        ArrayDeque<Integer> worklist = new ArrayDeque<>();
+        flow(depths, worklist, 0, 0);
+
+        while (!worklist.isEmpty()) {
+            int index = worklist.pop();
+            Instruction instruction = code.get(index);
+            int depth = depths[index];
+            if (instruction.isLabel()) {
+                flow(depths, worklist, index + 1, depth);
+                continue;
+            }
+
+            depth += instruction.getStackEffect();
+            if (depth < 0)
+                throw new IllegalArgumentException("Stack underflow at " + instruction.toString().trim());
+            maxStack = Math.max(maxStack, depth);
+
+            if (instruction.isBranch())
+                flow(depths, worklist, target(instruction), depth);
+            if (!instruction.endsFlow())
+                flow(depths, worklist, index + 1, depth);
+        }
+    }
+
+    private void flow(int[] depths, ArrayDeque<Integer> worklist, int index, int depth) {
+        if (index >= code.size())
+            throw new IllegalArgumentException("Control falls off the end of the method");
+        if (depths[index] == -1) {
+            depths[index] = depth;
+            worklist.push(index);
+        }
+        else if (depths[index] != depth)
+            throw new IllegalArgumentException("Inconsistent stack height at " + code.get(index).toString().trim());
+    }
+
+    private int target(Instruction instruction) {
+        Integer index = labels.get(instruction.getReference());
+        if (index == null)
+            throw new IllegalArgumentException("Label " + instruction.getReference() + " is not defined");
+        return index;
+    }
+}
@@ -0,0 +1,87 @@
+package visitor.codeGenerator;
+
+import ast.node.declaration.FuncDeclaration;
+import ast.node.expression.*;
+import ast.node.expression.operators.BinaryOperator;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.type.Type;
+import ast.type.primitiveType.BooleanType;
+import ast.type.primitiveType.FloatType;
+import ast.type.primitiveType.IntType;
+import visitor.Visitor;
+
+import java.util.HashMap;
+
+// Types of expressions in the method being generated. The program has
+// already passed the TypeAnalyzer, so no errors are reported here.
+public class TypeResolver extends Visitor<Type> {
+    private final HashMap<String, Type> variables;
+    private final HashMap<String, FuncDeclaration> functions;
+
+    public TypeResolver(HashMap<String, Type> variables, HashMap<String, FuncDeclaration> functions) {
+        this.variables = variables;
+        this.functions = functions;
+    }
+
+    public static boolean isComparison(BinaryOperator operator) {
+        return operator == BinaryOperator.eq || operator == BinaryOperator.neq || operator == BinaryOperator.gt
+                || operator == BinaryOperator.gte || operator == BinaryOperator.lt || operator == BinaryOperator.lte;
+    }
+
+    private Type variable(String name) {
+        Type type = variables.get(name);
+        if (type == null)
+            return new IntType();
+        return type;
+    }
+
+    @Override
+    public Type visit(UnaryExpression unaryExpression) {
+        return unaryExpression.getOperand().accept(this);
+    }
+
+    @Override
+    public Type visit(BinaryExpression binaryExpression) {
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        if (isComparison(operator) || operator == BinaryOperator.and || operator == BinaryOperator.or)
+            return new BooleanType();
+        return binaryExpression.getLeft().accept(this);
+    }
+
+    @Override
+    public Type visit(Identifier identifier) {
+        return variable(identifier.getName());
+    }
+
+    @Override
+    public Type visit(ArrayAccess arrayAccess) {
+        return variable(arrayAccess.getName());
+    }
+
+    @Override
+    public Type visit(FunctionCall functionCall) {
+        return functions.get(functionCall.getUFuncName().getName()).getType();
+    }
+
+    @Override
+    public Type visit(QueryExpression queryExpression) {
+        return new BooleanType();
+    }
+
+    @Override
+    public Type visit(IntValue value) {
+        return new IntType();
+    }
+
+    @Override
+    public Type visit(FloatValue value) {
+        return new FloatType();
+    }
+
+    @Override
+    public Type visit(BooleanValue value) {
+        return new BooleanType();
+    }
+}
@@ -161,7 +161,7 @@ public class NameAnalyzer extends Visitor<Void> {
 
     @Override
     public Void visit(ArrayDecStmt arrayDecStmt) {
-        var variableItem = new VariableItem(arrayDecStmt.getIdentifier().getName(), arrayDecStmt.getType());
+        var variableItem = new ArrayItem(arrayDecStmt);
         try {
             SymbolTable.top.put(variableItem);
         } catch (ItemAlreadyExistsException e) {
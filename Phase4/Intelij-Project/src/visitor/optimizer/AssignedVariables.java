@@ -0,0 +1,56 @@
+package visitor.optimizer;
+
+import ast.node.expression.Variable;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// Collects the names of every variable a list of statements may write,
+// including the ones written inside nested implications and loops. An
+// array counts as written when one of its elements is.
+public class AssignedVariables extends Visitor<Void> {
+
+    private final HashSet<String> names = new HashSet<>();
+
+    public static HashSet<String> of(ArrayList<Statement> statements) {
+        AssignedVariables assignedVariables = new AssignedVariables();
+        for (Statement statement : statements)
+            statement.accept(assignedVariables);
+        return assignedVariables.names;
+    }
+
+    @Override
+    public Void visit(AssignStmt assignStmt) {
+        names.add(((Variable) assignStmt.getLValue()).getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDecStmt varDecStmt) {
+        names.add(varDecStmt.getIdentifier().getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayDecStmt arrayDecStmt) {
+        names.add(arrayDecStmt.getIdentifier().getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ImplicationStmt implicationStmt) {
+        for (Statement statement : implicationStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForloopStmt forloopStmt) {
+        names.add(forloopStmt.getIterator().getName());
+        for (Statement statement : forloopStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+}
@@ -0,0 +1,296 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.ArgDeclaration;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.*;
+import ast.node.expression.operators.BinaryOperator;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.node.statement.*;
+import ast.type.Type;
+import visitor.Visitor;
+import visitor.codeGenerator.TypeResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// Local value numbering over each block. A pure arithmetic expression or
+// array read that is computed more than once while its operands keep their
+// values is evaluated once into a temporary declared right before its
+// first use, and every occurrence reads the temporary instead.
+public class CommonSubexpressionEliminator extends Visitor<Void> {
+
+    private final PurityChecker purityChecker = new PurityChecker();
+    private HashMap<String, Type> types;
+    private HashMap<String, Integer> versions;
+    private int nextVersion;
+    private int nextTemp;
+
+    @Override
+    public Void visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(FuncDeclaration funcDeclaration) {
+        types = new HashMap<>();
+        versions = new HashMap<>();
+        for (ArgDeclaration argDeclaration : funcDeclaration.getArgs())
+            types.put(argDeclaration.getIdentifier().getName(), argDeclaration.getType());
+        eliminate(funcDeclaration.getStatements());
+        return null;
+    }
+
+    @Override
+    public Void visit(MainDeclaration mainDeclaration) {
+        types = new HashMap<>();
+        versions = new HashMap<>();
+        eliminate(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    private void eliminate(ArrayList<Statement> statements) {
+        HashMap<String, Type> outerTypes = new HashMap<>(types);
+
+        // First number every expression of the block. A variable gets a new
+        // version whenever it is written, so equal keys mean equal values.
+        HashMap<String, Integer> counts = new HashMap<>();
+        ArrayList<HashMap<String, Integer>> versionsBefore = new ArrayList<>();
+        for (Statement statement : statements) {
+            versionsBefore.add(new HashMap<>(versions));
+            for (Expression expression : expressionsOf(statement))
+                count(expression, counts);
+            invalidate(statement);
+        }
+
+        HashMap<String, String> temps = new HashMap<>();
+        int index = 0;
+        for (int i = 0; i < versionsBefore.size(); i++) {
+            Statement statement = statements.get(index);
+            versions = versionsBefore.get(i);
+            ArrayList<Statement> hoisted = new ArrayList<>();
+            rewrite(statement, counts, temps, hoisted);
+            statements.addAll(index, hoisted);
+            index += hoisted.size() + 1;
+
+            if (statement instanceof VarDecStmt varDecStmt)
+                types.put(varDecStmt.getIdentifier().getName(), varDecStmt.getType());
+            else if (statement instanceof ArrayDecStmt arrayDecStmt)
+                types.put(arrayDecStmt.getIdentifier().getName(), arrayDecStmt.getType());
+            else if (statement instanceof ImplicationStmt implicationStmt)
+                eliminate(implicationStmt.getStatements());
+            else if (statement instanceof ForloopStmt forloopStmt) {
+                types.put(forloopStmt.getIterator().getName(), types.get(forloopStmt.getArrayName().getName()));
+                eliminate(forloopStmt.getStatements());
+                types.remove(forloopStmt.getIterator().getName());
+            }
+            invalidate(statement);
+        }
+        types = outerTypes;
+    }
+
+    // The expressions a statement evaluates in the enclosing block, in
+    // evaluation order. Nested blocks are numbered on their own.
+    private ArrayList<Expression> expressionsOf(Statement statement) {
+        ArrayList<Expression> expressions = new ArrayList<>();
+        if (statement instanceof AssignStmt assignStmt) {
+            if (assignStmt.getLValue() instanceof ArrayAccess arrayAccess)
+                expressions.add(arrayAccess.getIndex());
+            expressions.add(assignStmt.getRValue());
+        }
+        else if (statement instanceof VarDecStmt varDecStmt && varDecStmt.getInitialExpression() != null)
+            expressions.add(varDecStmt.getInitialExpression());
+        else if (statement instanceof ArrayDecStmt arrayDecStmt)
+            expressions.addAll(arrayDecStmt.getInitialValues());
+        else if (statement instanceof ReturnStmt returnStmt && returnStmt.getExpression() != null)
+            expressions.add(returnStmt.getExpression());
+        else if (statement instanceof PrintStmt printStmt)
+            expressions.add(printStmt.getArg());
+        else if (statement instanceof PredicateStmt predicateStmt)
+            expressions.add(predicateStmt.getVar());
+        else if (statement instanceof FunctionCallStmt functionCallStmt)
+            expressions.add(functionCallStmt.getFunctionCall());
+        else if (statement instanceof ImplicationStmt implicationStmt)
+            expressions.add(implicationStmt.getCondition());
+        return expressions;
+    }
+
+    private void invalidate(Statement statement) {
+        if (statement instanceof AssignStmt assignStmt)
+            newVersion(((Variable) assignStmt.getLValue()).getName());
+        else if (statement instanceof VarDecStmt varDecStmt)
+            newVersion(varDecStmt.getIdentifier().getName());
+        else if (statement instanceof ArrayDecStmt arrayDecStmt)
+            newVersion(arrayDecStmt.getIdentifier().getName());
+        else if (statement instanceof ImplicationStmt implicationStmt) {
+            for (String name : AssignedVariables.of(implicationStmt.getStatements()))
+                newVersion(name);
+        }
+        else if (statement instanceof ForloopStmt forloopStmt) {
+            HashSet<String> assigned = AssignedVariables.of(forloopStmt.getStatements());
+            assigned.add(forloopStmt.getIterator().getName());
+            for (String name : assigned)
+                newVersion(name);
+        }
+    }
+
+    private void newVersion(String name) {
+        versions.put(name, ++nextVersion);
+    }
+
+    // Only arithmetic and array reads are worth a temporary. Comparisons and
+    // logic usually feed a branch directly, which is cheaper than testing a
+    // stored boolean.
+    private boolean isCandidate(Expression expression) {
+        if (expression instanceof ArrayAccess)
+            return true;
+        if (expression instanceof BinaryExpression binaryExpression) {
+            BinaryOperator operator = binaryExpression.getBinaryOperator();
+            return !TypeResolver.isComparison(operator) && operator != BinaryOperator.and && operator != BinaryOperator.or;
+        }
+        return false;
+    }
+
+    // Repeated occurrences don't count their subexpressions again, so an
+    // operand is only given its own temporary when it is also used alone.
+    private void count(Expression expression, HashMap<String, Integer> counts) {
+        if (isCandidate(expression) && purityChecker.isPure(expression)) {
+            String key = keyOf(expression);
+            if (key != null && counts.merge(key, 1, Integer::sum) > 1)
+                return;
+        }
+        for (Expression child : childrenOf(expression))
+            count(child, counts);
+    }
+
+    private ArrayList<Expression> childrenOf(Expression expression) {
+        ArrayList<Expression> children = new ArrayList<>();
+        if (expression instanceof BinaryExpression binaryExpression) {
+            children.add(binaryExpression.getLeft());
+            children.add(binaryExpression.getRight());
+        }
+        else if (expression instanceof UnaryExpression unaryExpression)
+            children.add(unaryExpression.getOperand());
+        else if (expression instanceof ArrayAccess arrayAccess)
+            children.add(arrayAccess.getIndex());
+        else if (expression instanceof FunctionCall functionCall)
+            children.addAll(functionCall.getArgs());
+        else if (expression instanceof QueryExpression queryExpression && queryExpression.getVar() != null)
+            children.add(queryExpression.getVar());
+        return children;
+    }
+
+    // The value number of an expression, or null when it can't be numbered.
+    private String keyOf(Expression expression) {
+        if (expression instanceof IntValue value)
+            return "i" + value.getConstant();
+        if (expression instanceof FloatValue value)
+            return "f" + Float.floatToRawIntBits(value.getConstant());
+        if (expression instanceof BooleanValue value)
+            return "b" + value.getConstant();
+        if (expression instanceof Identifier identifier)
+            return identifier.getName() + "#" + versions.getOrDefault(identifier.getName(), 0);
+        if (expression instanceof ArrayAccess arrayAccess) {
+            String index = keyOf(arrayAccess.getIndex());
+            if (index == null)
+                return null;
+            return arrayAccess.getName() + "#" + versions.getOrDefault(arrayAccess.getName(), 0) + "[" + index + "]";
+        }
+        if (expression instanceof UnaryExpression unaryExpression) {
+            String operand = keyOf(unaryExpression.getOperand());
+            if (operand == null)
+                return null;
+            return unaryExpression.getUnaryOperator() + "(" + operand + ")";
+        }
+        if (expression instanceof BinaryExpression binaryExpression) {
+            String left = keyOf(binaryExpression.getLeft());
+            String right = keyOf(binaryExpression.getRight());
+            if (left == null || right == null)
+                return null;
+            BinaryOperator operator = binaryExpression.getBinaryOperator();
+            boolean commutative = operator == BinaryOperator.add || operator == BinaryOperator.mult;
+            if (commutative && left.compareTo(right) > 0) {
+                String swap = left;
+                left = right;
+                right = swap;
+            }
+            return "(" + left + " " + operator + " " + right + ")";
+        }
+        return null;
+    }
+
+    private void rewrite(Statement statement, HashMap<String, Integer> counts, HashMap<String, String> temps, ArrayList<Statement> hoisted) {
+        if (statement instanceof AssignStmt assignStmt) {
+            if (assignStmt.getLValue() instanceof ArrayAccess arrayAccess)
+                arrayAccess.setIndex(rewrite(arrayAccess.getIndex(), counts, temps, hoisted));
+            assignStmt.setRValue(rewrite(assignStmt.getRValue(), counts, temps, hoisted));
+        }
+        else if (statement instanceof VarDecStmt varDecStmt && varDecStmt.getInitialExpression() != null)
+            varDecStmt.setInitialExpression(rewrite(varDecStmt.getInitialExpression(), counts, temps, hoisted));
+        else if (statement instanceof ArrayDecStmt arrayDecStmt) {
+            ArrayList<Expression> initialValues = arrayDecStmt.getInitialValues();
+            for (int i = 0; i < initialValues.size(); i++)
+                initialValues.set(i, rewrite(initialValues.get(i), counts, temps, hoisted));
+        }
+        else if (statement instanceof ReturnStmt returnStmt && returnStmt.getExpression() != null)
+            returnStmt.setExpression(rewrite(returnStmt.getExpression(), counts, temps, hoisted));
+        else if (statement instanceof PrintStmt printStmt)
+            printStmt.setArg(rewrite(printStmt.getArg(), counts, temps, hoisted));
+        else if (statement instanceof PredicateStmt predicateStmt)
+            predicateStmt.setVar((Variable) rewrite(predicateStmt.getVar(), counts, temps, hoisted));
+        else if (statement instanceof FunctionCallStmt functionCallStmt)
+            rewrite(functionCallStmt.getFunctionCall(), counts, temps, hoisted);
+        else if (statement instanceof ImplicationStmt implicationStmt)
+            implicationStmt.setCondition(rewrite(implicationStmt.getCondition(), counts, temps, hoisted));
+    }
+
+    private Expression rewrite(Expression expression, HashMap<String, Integer> counts, HashMap<String, String> temps, ArrayList<Statement> hoisted) {
+        String key = null;
+        if (isCandidate(expression) && purityChecker.isPure(expression)) {
+            key = keyOf(expression);
+            if (key != null && counts.getOrDefault(key, 0) < 2)
+                key = null;
+        }
+
+        String temp = key == null ? null : temps.get(key);
+        if (temp == null) {
+            if (expression instanceof BinaryExpression binaryExpression) {
+                binaryExpression.setLeft(rewrite(binaryExpression.getLeft(), counts, temps, hoisted));
+                binaryExpression.setRight(rewrite(binaryExpression.getRight(), counts, temps, hoisted));
+            }
+            else if (expression instanceof UnaryExpression unaryExpression)
+                unaryExpression.setOperand(rewrite(unaryExpression.getOperand(), counts, temps, hoisted));
+            else if (expression instanceof ArrayAccess arrayAccess)
+                arrayAccess.setIndex(rewrite(arrayAccess.getIndex(), counts, temps, hoisted));
+            else if (expression instanceof FunctionCall functionCall) {
+                ArrayList<Expression> args = functionCall.getArgs();
+                for (int i = 0; i < args.size(); i++)
+                    args.set(i, rewrite(args.get(i), counts, temps, hoisted));
+            }
+            else if (expression instanceof QueryExpression queryExpression && queryExpression.getVar() != null)
+                queryExpression.setVar((Variable) rewrite(queryExpression.getVar(), counts, temps, hoisted));
+            if (key == null)
+                return expression;
+
+            temp = "$cse" + nextTemp++;
+            Type type = expression.accept(new TypeResolver(types, new HashMap<>()));
+            VarDecStmt varDecStmt = new VarDecStmt(new Identifier(temp), type);
+            varDecStmt.setInitialExpression(expression);
+            varDecStmt.setLine(expression.getLine());
+            hoisted.add(varDecStmt);
+            types.put(temp, type);
+            temps.put(key, temp);
+        }
+
+        Identifier identifier = new Identifier(temp);
+        identifier.setLine(expression.getLine());
+        return identifier;
+    }
+}
@@ -0,0 +1,247 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.*;
+import ast.node.expression.operators.BinaryOperator;
+import ast.node.expression.operators.UnaryOperator;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.node.expression.values.Value;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+
+// Replaces BinaryExpression and UnaryExpression subtrees whose operands are
+// all constants with a single Value. Every visit on an expression returns
+// the expression that should take its place.
+public class ConstantFolder extends Visitor<Expression> {
+
+    @Override
+    public Expression visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(FuncDeclaration funcDeclaration) {
+        foldStatements(funcDeclaration.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration) {
+        foldStatements(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    public void foldStatements(ArrayList<Statement> statements) {
+        for (Statement statement : statements)
+            statement.accept(this);
+    }
+
+    public Expression fold(Expression expression) {
+        if (expression == null)
+            return null;
+        return expression.accept(this);
+    }
+
+    @Override
+    public Expression visit(AssignStmt assignStmt) {
+        assignStmt.getLValue().accept(this);
+        assignStmt.setRValue(fold(assignStmt.getRValue()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(VarDecStmt varDecStmt) {
+        varDecStmt.setInitialExpression(fold(varDecStmt.getInitialExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ArrayDecStmt arrayDecStmt) {
+        ArrayList<Expression> initialValues = arrayDecStmt.getInitialValues();
+        for (int i = 0; i < initialValues.size(); i++)
+            initialValues.set(i, fold(initialValues.get(i)));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ReturnStmt returnStmt) {
+        returnStmt.setExpression(fold(returnStmt.getExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ImplicationStmt implicationStmt) {
+        implicationStmt.setCondition(fold(implicationStmt.getCondition()));
+        foldStatements(implicationStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(ForloopStmt forloopStmt) {
+        foldStatements(forloopStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(PrintStmt printStmt) {
+        printStmt.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(FunctionCallStmt functionCallStmt) {
+        functionCallStmt.getFunctionCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(PredicateStmt predicateStmt) {
+        predicateStmt.getVar().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(BinaryExpression binaryExpression) {
+        binaryExpression.setLeft(fold(binaryExpression.getLeft()));
+        binaryExpression.setRight(fold(binaryExpression.getRight()));
+        Expression left = binaryExpression.getLeft();
+        Expression right = binaryExpression.getRight();
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+
+        // && and || only evaluate their right operand when needed, so a
+        // constant left operand decides the whole expression.
+        if (left instanceof BooleanValue constant && (operator == BinaryOperator.and || operator == BinaryOperator.or)) {
+            if (constant.getConstant() == (operator == BinaryOperator.or))
+                return constant;
+            return right;
+        }
+
+        Value folded = null;
+        if (left instanceof IntValue l && right instanceof IntValue r)
+            folded = foldInt(operator, l.getConstant(), r.getConstant());
+        else if (left instanceof FloatValue l && right instanceof FloatValue r)
+            folded = foldFloat(operator, l.getConstant(), r.getConstant());
+        else if (left instanceof BooleanValue l && right instanceof BooleanValue r)
+            folded = foldBoolean(operator, l.getConstant(), r.getConstant());
+
+        if (folded == null)
+            return binaryExpression;
+        folded.setLine(binaryExpression.getLine());
+        return folded;
+    }
+
+    @Override
+    public Expression visit(UnaryExpression unaryExpression) {
+        unaryExpression.setOperand(fold(unaryExpression.getOperand()));
+        Expression operand = unaryExpression.getOperand();
+        UnaryOperator operator = unaryExpression.getUnaryOperator();
+
+        Value folded = null;
+        if (operand instanceof IntValue value && operator != UnaryOperator.not)
+            folded = new IntValue(operator == UnaryOperator.minus ? -value.getConstant() : value.getConstant());
+        else if (operand instanceof FloatValue value && operator != UnaryOperator.not)
+            folded = new FloatValue(operator == UnaryOperator.minus ? -value.getConstant() : value.getConstant());
+        else if (operand instanceof BooleanValue value && operator == UnaryOperator.not)
+            folded = new BooleanValue(!value.getConstant());
+
+        if (folded == null)
+            return unaryExpression;
+        folded.setLine(unaryExpression.getLine());
+        return folded;
+    }
+
+    private Value foldInt(BinaryOperator operator, int l, int r) {
+        return switch (operator) {
+            case add -> new IntValue(l + r);
+            case sub -> new IntValue(l - r);
+            case mult -> new IntValue(l * r);
+            // Division by zero is left in place so it still throws at run time.
+            case div -> r == 0 ? null : new IntValue(l / r);
+            case mod -> r == 0 ? null : new IntValue(l % r);
+            case eq -> new BooleanValue(l == r);
+            case neq -> new BooleanValue(l != r);
+            case gt -> new BooleanValue(l > r);
+            case gte -> new BooleanValue(l >= r);
+            case lt -> new BooleanValue(l < r);
+            case lte -> new BooleanValue(l <= r);
+            default -> null;
+        };
+    }
+
+    private Value foldFloat(BinaryOperator operator, float l, float r) {
+        return switch (operator) {
+            case add -> new FloatValue(l + r);
+            case sub -> new FloatValue(l - r);
+            case mult -> new FloatValue(l * r);
+            case div -> new FloatValue(l / r);
+            case mod -> new FloatValue(l % r);
+            case eq -> new BooleanValue(l == r);
+            case neq -> new BooleanValue(l != r);
+            case gt -> new BooleanValue(l > r);
+            case gte -> new BooleanValue(l >= r);
+            case lt -> new BooleanValue(l < r);
+            case lte -> new BooleanValue(l <= r);
+            default -> null;
+        };
+    }
+
+    private Value foldBoolean(BinaryOperator operator, boolean l, boolean r) {
+        return switch (operator) {
+            case and -> new BooleanValue(l && r);
+            case or -> new BooleanValue(l || r);
+            case eq -> new BooleanValue(l == r);
+            case neq -> new BooleanValue(l != r);
+            default -> null;
+        };
+    }
+
+    @Override
+    public Expression visit(ArrayAccess arrayAccess) {
+        arrayAccess.setIndex(fold(arrayAccess.getIndex()));
+        return arrayAccess;
+    }
+
+    @Override
+    public Expression visit(FunctionCall funcCall) {
+        ArrayList<Expression> args = funcCall.getArgs();
+        for (int i = 0; i < args.size(); i++)
+            args.set(i, fold(args.get(i)));
+        return funcCall;
+    }
+
+    @Override
+    public Expression visit(QueryExpression queryExpression) {
+        if (queryExpression.getVar() != null)
+            queryExpression.getVar().accept(this);
+        return queryExpression;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier) {
+        return identifier;
+    }
+
+    @Override
+    public Expression visit(IntValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(FloatValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(BooleanValue value) {
+        return value;
+    }
+}
@@ -0,0 +1,219 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.*;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.node.expression.values.Value;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// Forward dataflow over function bodies: a variable whose current value is
+// a constant or a copy of another variable is replaced by that value in
+// later expressions, which are then folded again.
+public class ConstantPropagator extends Visitor<Expression> {
+
+    private final ConstantFolder constantFolder = new ConstantFolder();
+    private HashMap<String, Expression> known = new HashMap<>();
+
+    @Override
+    public Expression visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(FuncDeclaration funcDeclaration) {
+        known = new HashMap<>();
+        propagate(funcDeclaration.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration) {
+        known = new HashMap<>();
+        propagate(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    private void propagate(ArrayList<Statement> statements) {
+        for (Statement statement : statements)
+            statement.accept(this);
+    }
+
+    private Expression rewrite(Expression expression) {
+        if (expression == null)
+            return null;
+        return constantFolder.fold(expression.accept(this));
+    }
+
+    private void kill(String name) {
+        known.remove(name);
+        known.values().removeIf(value -> value instanceof Identifier identifier && identifier.getName().equals(name));
+    }
+
+    private void define(String name, Expression value) {
+        kill(name);
+        if (value instanceof Value || (value instanceof Identifier identifier && !identifier.getName().equals(name)))
+            known.put(name, value);
+    }
+
+    // Statements in a nested block see the facts known on entry; afterwards
+    // only facts about variables the block cannot have written survive.
+    private void propagateBlock(ArrayList<Statement> statements, HashSet<String> assigned) {
+        HashMap<String, Expression> outer = known;
+        known = new HashMap<>(outer);
+        propagate(statements);
+        known = outer;
+        for (String name : assigned)
+            kill(name);
+    }
+
+    @Override
+    public Expression visit(VarDecStmt varDecStmt) {
+        Expression value = rewrite(varDecStmt.getInitialExpression());
+        varDecStmt.setInitialExpression(value);
+        define(varDecStmt.getIdentifier().getName(), value);
+        return null;
+    }
+
+    @Override
+    public Expression visit(AssignStmt assignStmt) {
+        Expression value = rewrite(assignStmt.getRValue());
+        assignStmt.setRValue(value);
+        if (assignStmt.getLValue() instanceof Identifier identifier)
+            define(identifier.getName(), value);
+        else
+            assignStmt.getLValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(ArrayDecStmt arrayDecStmt) {
+        ArrayList<Expression> initialValues = arrayDecStmt.getInitialValues();
+        for (int i = 0; i < initialValues.size(); i++)
+            initialValues.set(i, rewrite(initialValues.get(i)));
+        kill(arrayDecStmt.getIdentifier().getName());
+        return null;
+    }
+
+    @Override
+    public Expression visit(ReturnStmt returnStmt) {
+        returnStmt.setExpression(rewrite(returnStmt.getExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(PrintStmt printStmt) {
+        printStmt.setArg(rewrite(printStmt.getArg()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(FunctionCallStmt functionCallStmt) {
+        functionCallStmt.getFunctionCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(PredicateStmt predicateStmt) {
+        predicateStmt.getVar().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(ImplicationStmt implicationStmt) {
+        implicationStmt.setCondition(rewrite(implicationStmt.getCondition()));
+        propagateBlock(implicationStmt.getStatements(), AssignedVariables.of(implicationStmt.getStatements()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ForloopStmt forloopStmt) {
+        // The body runs again after it has written its variables, so none
+        // of them can be assumed on entry either.
+        HashSet<String> assigned = AssignedVariables.of(forloopStmt.getStatements());
+        assigned.add(forloopStmt.getIterator().getName());
+        for (String name : assigned)
+            kill(name);
+        propagateBlock(forloopStmt.getStatements(), assigned);
+        return null;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier) {
+        Expression value = known.get(identifier.getName());
+        if (value == null)
+            return identifier;
+
+        Expression copy;
+        if (value instanceof IntValue intValue)
+            copy = new IntValue(intValue.getConstant());
+        else if (value instanceof FloatValue floatValue)
+            copy = new FloatValue(floatValue.getConstant());
+        else if (value instanceof BooleanValue booleanValue)
+            copy = new BooleanValue(booleanValue.getConstant());
+        else
+            copy = new Identifier(((Identifier) value).getName());
+        copy.setLine(identifier.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(BinaryExpression binaryExpression) {
+        binaryExpression.setLeft(binaryExpression.getLeft().accept(this));
+        binaryExpression.setRight(binaryExpression.getRight().accept(this));
+        return binaryExpression;
+    }
+
+    @Override
+    public Expression visit(UnaryExpression unaryExpression) {
+        unaryExpression.setOperand(unaryExpression.getOperand().accept(this));
+        return unaryExpression;
+    }
+
+    @Override
+    public Expression visit(ArrayAccess arrayAccess) {
+        arrayAccess.setIndex(rewrite(arrayAccess.getIndex()));
+        return arrayAccess;
+    }
+
+    @Override
+    public Expression visit(FunctionCall funcCall) {
+        ArrayList<Expression> args = funcCall.getArgs();
+        for (int i = 0; i < args.size(); i++)
+            args.set(i, rewrite(args.get(i)));
+        return funcCall;
+    }
+
+    @Override
+    public Expression visit(QueryExpression queryExpression) {
+        if (queryExpression.getVar() != null)
+            queryExpression.getVar().accept(this);
+        return queryExpression;
+    }
+
+    @Override
+    public Expression visit(IntValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(FloatValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(BooleanValue value) {
+        return value;
+    }
+}
@@ -0,0 +1,206 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.Expression;
+import ast.node.expression.Identifier;
+import ast.node.expression.values.BooleanValue;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+// Liveness-based dead code elimination. Assignments of pure values that are
+// never read are dropped, and declarations of variables nothing refers to
+// are removed so they no longer take a local slot. Implications whose
+// condition folded to false and statements after a return are dropped too.
+public class DeadCodeEliminator extends Visitor<Void> {
+
+    private final PurityChecker purityChecker = new PurityChecker();
+    private HashSet<String> referenced;
+    private boolean changed;
+
+    @Override
+    public Void visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(FuncDeclaration funcDeclaration) {
+        eliminate(funcDeclaration.getStatements());
+        return null;
+    }
+
+    @Override
+    public Void visit(MainDeclaration mainDeclaration) {
+        eliminate(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    private void eliminate(ArrayList<Statement> statements) {
+        do {
+            changed = false;
+            referenced = new HashSet<>();
+            collectReferences(statements);
+            liveness(statements, new HashSet<>(), true);
+        } while (changed);
+    }
+
+    // Every name read anywhere, or written by something other than its own
+    // declaration.
+    private void collectReferences(ArrayList<Statement> statements) {
+        for (Statement statement : statements) {
+            if (statement instanceof AssignStmt assignStmt) {
+                if (assignStmt.getLValue() instanceof Identifier identifier)
+                    referenced.add(identifier.getName());
+                else
+                    referenced.addAll(UsedVariables.of(assignStmt.getLValue()));
+                referenced.addAll(UsedVariables.of(assignStmt.getRValue()));
+            }
+            else if (statement instanceof VarDecStmt varDecStmt)
+                referenced.addAll(UsedVariables.of(varDecStmt.getInitialExpression()));
+            else if (statement instanceof ArrayDecStmt arrayDecStmt) {
+                for (Expression value : arrayDecStmt.getInitialValues())
+                    referenced.addAll(UsedVariables.of(value));
+            }
+            else if (statement instanceof ReturnStmt returnStmt)
+                referenced.addAll(UsedVariables.of(returnStmt.getExpression()));
+            else if (statement instanceof PrintStmt printStmt)
+                referenced.addAll(UsedVariables.of(printStmt.getArg()));
+            else if (statement instanceof PredicateStmt predicateStmt)
+                referenced.addAll(UsedVariables.of(predicateStmt.getVar()));
+            else if (statement instanceof FunctionCallStmt functionCallStmt)
+                referenced.addAll(UsedVariables.of(functionCallStmt.getFunctionCall()));
+            else if (statement instanceof ImplicationStmt implicationStmt) {
+                referenced.addAll(UsedVariables.of(implicationStmt.getCondition()));
+                collectReferences(implicationStmt.getStatements());
+            }
+            else if (statement instanceof ForloopStmt forloopStmt) {
+                referenced.add(forloopStmt.getIterator().getName());
+                referenced.add(forloopStmt.getArrayName().getName());
+                collectReferences(forloopStmt.getStatements());
+            }
+        }
+    }
+
+    // Walks the statements backwards from the set of variables live after
+    // them and returns the set live before them. Statements are only
+    // removed when remove is set; otherwise the walk just measures.
+    private HashSet<String> liveness(ArrayList<Statement> statements, HashSet<String> liveOut, boolean remove) {
+        if (remove)
+            dropUnreachable(statements);
+
+        HashSet<String> live = new HashSet<>(liveOut);
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            Statement statement = statements.get(i);
+
+            if (statement instanceof ReturnStmt returnStmt)
+                live = UsedVariables.of(returnStmt.getExpression());
+
+            else if (statement instanceof AssignStmt assignStmt) {
+                if (assignStmt.getLValue() instanceof Identifier identifier) {
+                    if (!live.contains(identifier.getName()) && purityChecker.isPure(assignStmt.getRValue())) {
+                        if (remove)
+                            removeStatement(statements, i);
+                        continue;
+                    }
+                    live.remove(identifier.getName());
+                }
+                else
+                    live.addAll(UsedVariables.of(assignStmt.getLValue()));
+                live.addAll(UsedVariables.of(assignStmt.getRValue()));
+            }
+
+            else if (statement instanceof VarDecStmt varDecStmt) {
+                String name = varDecStmt.getIdentifier().getName();
+                Expression initialExpression = varDecStmt.getInitialExpression();
+                if (!live.contains(name) && purityChecker.isPure(initialExpression)) {
+                    if (remove && !referenced.contains(name))
+                        removeStatement(statements, i);
+                    else if (remove && initialExpression != null) {
+                        varDecStmt.setInitialExpression(null);
+                        changed = true;
+                    }
+                    continue;
+                }
+                live.remove(name);
+                live.addAll(UsedVariables.of(initialExpression));
+            }
+
+            else if (statement instanceof ArrayDecStmt arrayDecStmt) {
+                String name = arrayDecStmt.getIdentifier().getName();
+                boolean pure = true;
+                for (Expression value : arrayDecStmt.getInitialValues())
+                    pure &= purityChecker.isPure(value);
+                if (!live.contains(name) && pure && !referenced.contains(name)) {
+                    if (remove)
+                        removeStatement(statements, i);
+                    continue;
+                }
+                live.remove(name);
+                for (Expression value : arrayDecStmt.getInitialValues())
+                    live.addAll(UsedVariables.of(value));
+            }
+
+            else if (statement instanceof PrintStmt printStmt)
+                live.addAll(UsedVariables.of(printStmt.getArg()));
+
+            else if (statement instanceof PredicateStmt predicateStmt)
+                live.addAll(UsedVariables.of(predicateStmt.getVar()));
+
+            else if (statement instanceof FunctionCallStmt functionCallStmt)
+                live.addAll(UsedVariables.of(functionCallStmt.getFunctionCall()));
+
+            else if (statement instanceof ImplicationStmt implicationStmt) {
+                // The body may be skipped, so whatever is live after the
+                // implication stays live before it.
+                live.addAll(liveness(implicationStmt.getStatements(), live, remove));
+                live.addAll(UsedVariables.of(implicationStmt.getCondition()));
+            }
+
+            else if (statement instanceof ForloopStmt forloopStmt) {
+                String iterator = forloopStmt.getIterator().getName();
+                HashSet<String> bodyOut = new HashSet<>(live);
+                while (true) {
+                    HashSet<String> next = liveness(forloopStmt.getStatements(), bodyOut, false);
+                    next.remove(iterator);
+                    next.addAll(live);
+                    if (next.equals(bodyOut))
+                        break;
+                    bodyOut = next;
+                }
+                HashSet<String> bodyIn = liveness(forloopStmt.getStatements(), bodyOut, remove);
+                bodyIn.remove(iterator);
+                live.addAll(bodyIn);
+                live.add(forloopStmt.getArrayName().getName());
+            }
+        }
+        return live;
+    }
+
+    private void dropUnreachable(ArrayList<Statement> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            Statement statement = statements.get(i);
+            if (statement instanceof ImplicationStmt implicationStmt
+                    && implicationStmt.getCondition() instanceof BooleanValue condition && !condition.getConstant()) {
+                statements.remove(i--);
+                changed = true;
+            }
+            else if (statement instanceof ReturnStmt && i < statements.size() - 1) {
+                statements.subList(i + 1, statements.size()).clear();
+                changed = true;
+                return;
+            }
+        }
+    }
+
+    private void removeStatement(ArrayList<Statement> statements, int index) {
+        statements.remove(index);
+        changed = true;
+    }
+}
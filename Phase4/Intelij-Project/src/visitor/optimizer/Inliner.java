@@ -0,0 +1,277 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.ArgDeclaration;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.expression.*;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import ast.node.statement.*;
+import ast.type.Type;
+import ast.type.primitiveType.BooleanType;
+import ast.type.primitiveType.FloatType;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// Replaces calls to small functions with the expression they compute.
+// A function qualifies when its body is a straight line of declarations
+// and assignments ending in a return, all of them pure, so the body
+// collapses into one expression over the parameters. Calls in a body are
+// inlined before it is collapsed, and a function whose collapsing is
+// still in progress is never inlined, which stops recursion. Every visit
+// on an expression returns the expression that should take its place.
+public class Inliner extends Visitor<Expression> {
+
+    private static final int MAX_INLINED_SIZE = 24;
+
+    private final PurityChecker purityChecker = new PurityChecker();
+    private final HashMap<String, FuncDeclaration> functions = new HashMap<>();
+    // The collapsed body of each function visited so far, or null.
+    private final HashMap<String, Expression> bodies = new HashMap<>();
+    private final HashSet<String> inProgress = new HashSet<>();
+
+    @Override
+    public Expression visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            functions.put(funcDeclaration.getName().getName(), funcDeclaration);
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(FuncDeclaration funcDeclaration) {
+        bodyOf(funcDeclaration.getName().getName());
+        return null;
+    }
+
+    @Override
+    public Expression visit(MainDeclaration mainDeclaration) {
+        inlineStatements(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    private Expression bodyOf(String name) {
+        if (bodies.containsKey(name) || inProgress.contains(name))
+            return bodies.get(name);
+        FuncDeclaration funcDeclaration = functions.get(name);
+        inProgress.add(name);
+        inlineStatements(funcDeclaration.getStatements());
+        inProgress.remove(name);
+        bodies.put(name, collapse(funcDeclaration));
+        return bodies.get(name);
+    }
+
+    private Expression collapse(FuncDeclaration funcDeclaration) {
+        HashMap<String, Expression> values = new HashMap<>();
+        for (Statement statement : funcDeclaration.getStatements()) {
+            if (statement instanceof VarDecStmt varDecStmt) {
+                Expression value = varDecStmt.getInitialExpression() == null ? defaultValue(varDecStmt.getType())
+                        : collapse(varDecStmt.getInitialExpression(), values);
+                if (value == null)
+                    return null;
+                values.put(varDecStmt.getIdentifier().getName(), value);
+            }
+            else if (statement instanceof AssignStmt assignStmt && assignStmt.getLValue() instanceof Identifier identifier) {
+                Expression value = collapse(assignStmt.getRValue(), values);
+                if (value == null)
+                    return null;
+                values.put(identifier.getName(), value);
+            }
+            else if (statement instanceof ReturnStmt returnStmt) {
+                if (returnStmt.getExpression() == null)
+                    return defaultValue(funcDeclaration.getType());
+                return collapse(returnStmt.getExpression(), values);
+            }
+            else
+                return null;
+        }
+        return defaultValue(funcDeclaration.getType());
+    }
+
+    // Every value is checked, not just the returned one, because values
+    // that end up unused are dropped.
+    private Expression collapse(Expression expression, HashMap<String, Expression> values) {
+        Expression value = Substitution.apply(expression, values);
+        if (value == null || !purityChecker.isPure(value) || size(value) > MAX_INLINED_SIZE)
+            return null;
+        return value;
+    }
+
+    private static Expression defaultValue(Type type) {
+        if (type instanceof FloatType)
+            return new FloatValue(0);
+        if (type instanceof BooleanType)
+            return new BooleanValue(false);
+        return new IntValue(0);
+    }
+
+    private static int size(Expression expression) {
+        if (expression instanceof BinaryExpression binaryExpression)
+            return 1 + size(binaryExpression.getLeft()) + size(binaryExpression.getRight());
+        if (expression instanceof UnaryExpression unaryExpression)
+            return 1 + size(unaryExpression.getOperand());
+        return 1;
+    }
+
+    // The expression a call can be replaced with, or null. Arguments
+    // must be pure since the body may use a parameter any number of times.
+    private Expression inlineCall(FunctionCall functionCall) {
+        ArrayList<Expression> args = functionCall.getArgs();
+        for (int i = 0; i < args.size(); i++)
+            args.set(i, inline(args.get(i)));
+
+        Expression body = bodyOf(functionCall.getUFuncName().getName());
+        if (body == null)
+            return null;
+        HashMap<String, Expression> values = new HashMap<>();
+        ArrayList<ArgDeclaration> parameters = functions.get(functionCall.getUFuncName().getName()).getArgs();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!purityChecker.isPure(args.get(i)))
+                return null;
+            values.put(parameters.get(i).getIdentifier().getName(), args.get(i));
+        }
+        // An argument Substitution cannot copy, such as an array element or a
+        // query, leaves the call as it is.
+        Expression inlined = Substitution.apply(body, values);
+        if (inlined == null || size(inlined) > MAX_INLINED_SIZE)
+            return null;
+        inlined.setLine(functionCall.getLine());
+        return inlined;
+    }
+
+    private void inlineStatements(ArrayList<Statement> statements) {
+        for (int i = 0; i < statements.size(); i++) {
+            // A call whose result is discarded does nothing once it can
+            // be inlined.
+            if (statements.get(i) instanceof FunctionCallStmt functionCallStmt
+                    && inlineCall(functionCallStmt.getFunctionCall()) != null)
+                statements.remove(i--);
+            else
+                statements.get(i).accept(this);
+        }
+    }
+
+    private Expression inline(Expression expression) {
+        if (expression == null)
+            return null;
+        return expression.accept(this);
+    }
+
+    @Override
+    public Expression visit(AssignStmt assignStmt) {
+        assignStmt.getLValue().accept(this);
+        assignStmt.setRValue(inline(assignStmt.getRValue()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(VarDecStmt varDecStmt) {
+        varDecStmt.setInitialExpression(inline(varDecStmt.getInitialExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ArrayDecStmt arrayDecStmt) {
+        ArrayList<Expression> initialValues = arrayDecStmt.getInitialValues();
+        for (int i = 0; i < initialValues.size(); i++)
+            initialValues.set(i, inline(initialValues.get(i)));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ReturnStmt returnStmt) {
+        returnStmt.setExpression(inline(returnStmt.getExpression()));
+        return null;
+    }
+
+    @Override
+    public Expression visit(ImplicationStmt implicationStmt) {
+        implicationStmt.setCondition(inline(implicationStmt.getCondition()));
+        inlineStatements(implicationStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(ForloopStmt forloopStmt) {
+        inlineStatements(forloopStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Expression visit(PrintStmt printStmt) {
+        printStmt.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(FunctionCallStmt functionCallStmt) {
+        return null;
+    }
+
+    @Override
+    public Expression visit(PredicateStmt predicateStmt) {
+        predicateStmt.getVar().accept(this);
+        return null;
+    }
+
+    @Override
+    public Expression visit(BinaryExpression binaryExpression) {
+        binaryExpression.setLeft(inline(binaryExpression.getLeft()));
+        binaryExpression.setRight(inline(binaryExpression.getRight()));
+        return binaryExpression;
+    }
+
+    @Override
+    public Expression visit(UnaryExpression unaryExpression) {
+        unaryExpression.setOperand(inline(unaryExpression.getOperand()));
+        return unaryExpression;
+    }
+
+    @Override
+    public Expression visit(ArrayAccess arrayAccess) {
+        arrayAccess.setIndex(inline(arrayAccess.getIndex()));
+        return arrayAccess;
+    }
+
+    @Override
+    public Expression visit(FunctionCall functionCall) {
+        Expression inlined = inlineCall(functionCall);
+        if (inlined == null)
+            return functionCall;
+        return inlined;
+    }
+
+    @Override
+    public Expression visit(QueryExpression queryExpression) {
+        if (queryExpression.getVar() != null)
+            queryExpression.getVar().accept(this);
+        return queryExpression;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier) {
+        return identifier;
+    }
+
+    @Override
+    public Expression visit(IntValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(FloatValue value) {
+        return value;
+    }
+
+    @Override
+    public Expression visit(BooleanValue value) {
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.declaration.MainDeclaration;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+// Decides how far each for-loop is unrolled; CodeGenerator does the
+// copying. Loops over arrays of at most fullUnrollSize elements are
+// unrolled completely, larger ones PARTIAL_FACTOR iterations at a time.
+// A loop is only unrolled while its copies stay within MAX_UNROLLED_SIZE
+// statements, so methods don't blow up.
+public class LoopUnroller extends Visitor<Void> {
+
+    public static final int DEFAULT_FULL_UNROLL_SIZE = 8;
+    private static final int PARTIAL_FACTOR = 4;
+    private static final int MAX_UNROLLED_SIZE = 64;
+
+    private final int fullUnrollSize;
+    // Sizes of the arrays in scope, by name.
+    private HashMap<String, Integer> sizes = new HashMap<>();
+
+    public LoopUnroller() {
+        this(DEFAULT_FULL_UNROLL_SIZE);
+    }
+
+    public LoopUnroller(int fullUnrollSize) {
+        this.fullUnrollSize = fullUnrollSize;
+    }
+
+    @Override
+    public Void visit(Program program) {
+        for (FuncDeclaration funcDeclaration : program.getFuncs())
+            funcDeclaration.accept(this);
+        program.getMain().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(FuncDeclaration funcDeclaration) {
+        sizes.clear();
+        visitBlock(funcDeclaration.getStatements());
+        return null;
+    }
+
+    @Override
+    public Void visit(MainDeclaration mainDeclaration) {
+        sizes.clear();
+        visitBlock(mainDeclaration.getMainStatements());
+        return null;
+    }
+
+    private void visitBlock(ArrayList<Statement> statements) {
+        HashMap<String, Integer> outerSizes = new HashMap<>(sizes);
+        for (Statement statement : statements)
+            statement.accept(this);
+        sizes = outerSizes;
+    }
+
+    @Override
+    public Void visit(ArrayDecStmt arrayDecStmt) {
+        sizes.put(arrayDecStmt.getIdentifier().getName(), arrayDecStmt.getArrSize());
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDecStmt varDecStmt) {
+        sizes.remove(varDecStmt.getIdentifier().getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ImplicationStmt implicationStmt) {
+        visitBlock(implicationStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Void visit(ForloopStmt forloopStmt) {
+        // Inner loops are decided first, since their copies count towards
+        // the size of this loop's body.
+        HashMap<String, Integer> outerSizes = new HashMap<>(sizes);
+        sizes.remove(forloopStmt.getIterator().getName());
+        visitBlock(forloopStmt.getStatements());
+        sizes = outerSizes;
+
+        Integer size = sizes.get(forloopStmt.getArrayName().getName());
+        if (size == null || size == 0)
+            return null;
+        int bodySize = sizeOf(forloopStmt.getStatements());
+        if (size <= fullUnrollSize && size * bodySize <= MAX_UNROLLED_SIZE)
+            forloopStmt.setUnrollFactor(size);
+        else if (size >= 2 * PARTIAL_FACTOR && PARTIAL_FACTOR * bodySize <= MAX_UNROLLED_SIZE)
+            forloopStmt.setUnrollFactor(PARTIAL_FACTOR);
+        return null;
+    }
+
+    // Number of statements code is generated for, counting unrolled copies.
+    private static int sizeOf(ArrayList<Statement> statements) {
+        int size = 0;
+        for (Statement statement : statements) {
+            if (statement instanceof ImplicationStmt implicationStmt)
+                size += 1 + sizeOf(implicationStmt.getStatements());
+            else if (statement instanceof ForloopStmt forloopStmt)
+                size += 1 + forloopStmt.getUnrollFactor() * sizeOf(forloopStmt.getStatements());
+            else
+                size++;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,136 @@
+package visitor.optimizer;
+
+import ast.node.Program;
+import ast.node.declaration.FuncDeclaration;
+import ast.node.expression.*;
+import ast.node.statement.*;
+import visitor.Visitor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+// Finds the functions whose result depends only on their arguments: they
+// don't print, don't touch the fact store and only call pure functions.
+// Calling one twice with the same arguments gives the same result, so it
+// may be memoized. Recursion is allowed; every function starts out pure
+// and is dropped when it calls one that isn't, until nothing changes.
+public class PureFunctions extends Visitor<Void> {
+
+    private boolean effects;
+    private HashSet<String> calls;
+
+    public static HashSet<String> of(Program program) {
+        PureFunctions pureFunctions = new PureFunctions();
+        HashMap<String, HashSet<String>> callees = new HashMap<>();
+        HashSet<String> pure = new HashSet<>();
+        for (FuncDeclaration funcDeclaration : program.getFuncs()) {
+            pureFunctions.effects = false;
+            pureFunctions.calls = new HashSet<>();
+            for (Statement statement : funcDeclaration.getStatements())
+                statement.accept(pureFunctions);
+            String name = funcDeclaration.getName().getName();
+            callees.put(name, pureFunctions.calls);
+            if (!pureFunctions.effects)
+                pure.add(name);
+        }
+
+        boolean changed = true;
+        while (changed)
+            changed = pure.removeIf(name -> !pure.containsAll(callees.get(name)));
+        return pure;
+    }
+
+    @Override
+    public Void visit(AssignStmt assignStmt) {
+        assignStmt.getLValue().accept(this);
+        assignStmt.getRValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDecStmt varDecStmt) {
+        if (varDecStmt.getInitialExpression() != null)
+            varDecStmt.getInitialExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayDecStmt arrayDecStmt) {
+        for (Expression value : arrayDecStmt.getInitialValues())
+            value.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        if (returnStmt.getExpression() != null)
+            returnStmt.getExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ImplicationStmt implicationStmt) {
+        implicationStmt.getCondition().accept(this);
+        for (Statement statement : implicationStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForloopStmt forloopStmt) {
+        for (Statement statement : forloopStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt printStmt) {
+        effects = true;
+        return null;
+    }
+
+    @Override
+    public Void visit(PredicateStmt predicateStmt) {
+        effects = true;
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCallStmt functionCallStmt) {
+        functionCallStmt.getFunctionCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        binaryExpression.getLeft().accept(this);
+        binaryExpression.getRight().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayAccess arrayAccess) {
+        arrayAccess.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCall functionCall) {
+        calls.add(functionCall.getUFuncName().getName());
+        for (Expression arg : functionCall.getArgs())
+            arg.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(QueryExpression queryExpression) {
+        effects = true;
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+package visitor.optimizer;
+
+import ast.node.expression.*;
+import ast.node.expression.operators.BinaryOperator;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import visitor.Visitor;
+
+// An expression is pure when evaluating it has no side effect and cannot
+// throw, so it may be dropped or evaluated once instead of several times.
+public class PurityChecker extends Visitor<Boolean> {
+
+    public boolean isPure(Expression expression) {
+        return expression == null || expression.accept(this);
+    }
+
+    @Override
+    public Boolean visit(BinaryExpression binaryExpression) {
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        if (operator == BinaryOperator.div || operator == BinaryOperator.mod) {
+            Expression divisor = binaryExpression.getRight();
+            boolean safe = divisor instanceof FloatValue || (divisor instanceof IntValue value && value.getConstant() != 0);
+            if (!safe)
+                return false;
+        }
+        return isPure(binaryExpression.getLeft()) && isPure(binaryExpression.getRight());
+    }
+
+    @Override
+    public Boolean visit(UnaryExpression unaryExpression) {
+        return isPure(unaryExpression.getOperand());
+    }
+
+    @Override
+    public Boolean visit(ArrayAccess arrayAccess) {
+        // Only constant indices known to be within the declared size are
+        // assumed to be in range.
+        return arrayAccess.getIndex() instanceof IntValue value
+                && value.getConstant() >= 0 && value.getConstant() < arrayAccess.getArraySize();
+    }
+
+    @Override
+    public Boolean visit(FunctionCall funcCall) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(QueryExpression queryExpression) {
+        return queryExpression.getVar() == null || isPure(queryExpression.getVar());
+    }
+
+    @Override
+    public Boolean visit(Identifier identifier) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(IntValue value) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(FloatValue value) {
+        return true;
+    }
+
+    @Override
+    public Boolean visit(BooleanValue value) {
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+package visitor.optimizer;
+
+import ast.node.expression.*;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import visitor.Visitor;
+
+import java.util.HashMap;
+
+// Copies an expression, replacing each variable that has an entry in the
+// map with a copy of that entry. Only arithmetic and logic over variables
+// and constants can be copied; anything else makes the copy null.
+public class Substitution extends Visitor<Expression> {
+
+    private final HashMap<String, Expression> values;
+
+    private Substitution(HashMap<String, Expression> values) {
+        this.values = values;
+    }
+
+    public static Expression apply(Expression expression, HashMap<String, Expression> values) {
+        return expression.accept(new Substitution(values));
+    }
+
+    public static Expression copy(Expression expression) {
+        return apply(expression, new HashMap<>());
+    }
+
+    @Override
+    public Expression visit(BinaryExpression binaryExpression) {
+        Expression left = binaryExpression.getLeft().accept(this);
+        Expression right = binaryExpression.getRight().accept(this);
+        if (left == null || right == null)
+            return null;
+        Expression copy = new BinaryExpression(left, right, binaryExpression.getBinaryOperator());
+        copy.setLine(binaryExpression.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(UnaryExpression unaryExpression) {
+        Expression operand = unaryExpression.getOperand().accept(this);
+        if (operand == null)
+            return null;
+        Expression copy = new UnaryExpression(unaryExpression.getUnaryOperator(), operand);
+        copy.setLine(unaryExpression.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(Identifier identifier) {
+        Expression value = values.get(identifier.getName());
+        if (value != null)
+            return copy(value);
+        Expression copy = new Identifier(identifier.getName());
+        copy.setLine(identifier.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(IntValue value) {
+        Expression copy = new IntValue(value.getConstant());
+        copy.setLine(value.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(FloatValue value) {
+        Expression copy = new FloatValue(value.getConstant());
+        copy.setLine(value.getLine());
+        return copy;
+    }
+
+    @Override
+    public Expression visit(BooleanValue value) {
+        Expression copy = new BooleanValue(value.getConstant());
+        copy.setLine(value.getLine());
+        return copy;
+    }
+}
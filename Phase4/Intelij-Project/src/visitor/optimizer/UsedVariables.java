@@ -0,0 +1,77 @@
+package visitor.optimizer;
+
+import ast.node.expression.*;
+import ast.node.expression.values.BooleanValue;
+import ast.node.expression.values.FloatValue;
+import ast.node.expression.values.IntValue;
+import visitor.Visitor;
+
+import java.util.HashSet;
+
+// Collects the names of every variable and array an expression reads.
+public class UsedVariables extends Visitor<Void> {
+
+    private final HashSet<String> names = new HashSet<>();
+
+    public static HashSet<String> of(Expression expression) {
+        UsedVariables usedVariables = new UsedVariables();
+        if (expression != null)
+            expression.accept(usedVariables);
+        return usedVariables.names;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        names.add(identifier.getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayAccess arrayAccess) {
+        names.add(arrayAccess.getName());
+        arrayAccess.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        binaryExpression.getLeft().accept(this);
+        binaryExpression.getRight().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCall funcCall) {
+        for (Expression arg : funcCall.getArgs())
+            arg.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(QueryExpression queryExpression) {
+        if (queryExpression.getVar() != null)
+            queryExpression.getVar().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue value) {
+        return null;
+    }
+
+    @Override
+    public Void visit(FloatValue value) {
+        return null;
+    }
+
+    @Override
+    public Void visit(BooleanValue value) {
+        return null;
+    }
+}
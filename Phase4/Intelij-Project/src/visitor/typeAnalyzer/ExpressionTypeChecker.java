@@ -11,12 +11,20 @@ import ast.type.Type;
 import ast.type.primitiveType.BooleanType;
 import ast.type.primitiveType.FloatType;
 import ast.type.primitiveType.IntType;
+import ast.node.declaration.ArgDeclaration;
 import compileError.CompileError;
+import compileError.Type.ArgumentCountMismatch;
+import compileError.Type.ArgumentTypeMismatch;
+import compileError.Type.ArrayIndexOutOfBounds;
+import compileError.Type.ArrayUsedAsValue;
+import compileError.Type.IndexTypeNotInt;
+import compileError.Type.NotAnArray;
 import compileError.Type.FunctionNotDeclared;
 import compileError.Type.UnsupportedOperandType;
 import compileError.Type.VarNotDeclared;
 import symbolTable.SymbolTable;
 import symbolTable.itemException.ItemNotFoundException;
+import symbolTable.symbolTableItems.ArrayItem;
 import symbolTable.symbolTableItems.FunctionItem;
 import symbolTable.symbolTableItems.VariableItem;
 import visitor.Visitor;
@@ -112,6 +120,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         try {
 
             var varDec = (VariableItem) SymbolTable.top.get(VariableItem.STARTKEY + identifier.getName());
+            // Whole arrays can only be iterated over, which ForloopStmt
+            // checks itself.
+            if (varDec instanceof ArrayItem) {
+                typeErrors.add(new ArrayUsedAsValue(identifier.getLine(), identifier.getName()));
+                return new NoType();
+            }
             return varDec.getType();
         }
         catch (ItemNotFoundException e){
@@ -122,9 +136,20 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
     @Override
     public Type visit(ArrayAccess arrayAccess) {
+        Type indexType = arrayAccess.getIndex().accept(this);
+        if (!(indexType instanceof IntType) && !(indexType instanceof NoType))
+            typeErrors.add(new IndexTypeNotInt(arrayAccess.getLine()));
         try {
 
             var varDec = (VariableItem) SymbolTable.top.get(VariableItem.STARTKEY + arrayAccess.getName());
+            if (!(varDec instanceof ArrayItem arrayItem)) {
+                typeErrors.add(new NotAnArray(arrayAccess.getLine(), arrayAccess.getName()));
+                return new NoType();
+            }
+            arrayAccess.setArraySize(arrayItem.getSize());
+            if (arrayAccess.getIndex() instanceof IntValue index
+                    && (index.getConstant() < 0 || index.getConstant() >= arrayItem.getSize()))
+                typeErrors.add(new ArrayIndexOutOfBounds(arrayAccess.getLine(), arrayAccess.getName(), index.getConstant()));
             return varDec.getType();
         }
         catch (ItemNotFoundException e){
@@ -137,9 +162,18 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(FunctionCall functionCall) {
         try {
             var functionItem = (FunctionItem) SymbolTable.root.get(FunctionItem.STARTKEY + functionCall.getUFuncName().getName());
-
-            for(Expression arg: functionCall.getArgs())
-                arg.accept(this);
+            String name = functionCall.getUFuncName().getName();
+            ArrayList<Expression> args = functionCall.getArgs();
+            ArrayList<ArgDeclaration> parameters = functionItem.getHandlerDeclaration().getArgs();
+            if (args.size() != parameters.size())
+                typeErrors.add(new ArgumentCountMismatch(functionCall.getLine(), name, parameters.size(), args.size()));
+
+            for (int i = 0; i < args.size(); i++) {
+                Type argType = args.get(i).accept(this);
+                if (i < parameters.size() && !(argType instanceof NoType)
+                        && !argType.toString().equals(parameters.get(i).getType().toString()))
+                    typeErrors.add(new ArgumentTypeMismatch(functionCall.getLine(), name, i + 1));
+            }
 
             return functionItem.getHandlerDeclaration().getType();
         }
@@ -153,6 +187,8 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
     @Override
     public Type visit(QueryExpression queryExpression) {
+        if (queryExpression.getVar() != null)
+            queryExpression.getVar().accept(this);
         return new BooleanType();
     }
 
@@ -4,7 +4,6 @@ import ast.node.Program;
 import ast.node.declaration.Declaration;
 import ast.node.declaration.FuncDeclaration;
 import ast.node.declaration.MainDeclaration;
-import ast.node.expression.Expression;
 import ast.node.expression.FunctionCall;
 import ast.node.expression.Identifier;
 import ast.node.expression.operators.BinaryOperator;
@@ -12,15 +11,21 @@ import ast.node.statement.*;
 import ast.type.NoType;
 import ast.type.Type;
 import compileError.CompileError;
-import compileError.Type.FunctionNotDeclared;
+import compileError.Type.ArrayIndexOutOfBounds;
 import compileError.Type.LeftSideNotLValue;
+import compileError.Type.NotAnArray;
+import compileError.Type.ReturnTypeMismatch;
 import compileError.Type.UnsupportedOperandType;
 import compileError.Type.ConditionTypeNotBool;
+import compileError.Type.VarNotDeclared;
 import symbolTable.SymbolTable;
+import symbolTable.itemException.ItemAlreadyExistsException;
 import symbolTable.itemException.ItemNotFoundException;
+import symbolTable.symbolTableItems.ArrayItem;
 import symbolTable.symbolTableItems.ForLoopItem;
 import symbolTable.symbolTableItems.FunctionItem;
 import symbolTable.symbolTableItems.MainItem;
+import symbolTable.symbolTableItems.VariableItem;
 import visitor.Visitor;
 
 import java.util.ArrayList;
@@ -28,6 +33,8 @@ import java.util.ArrayList;
 public class TypeAnalyzer extends Visitor<Void> {
     public ArrayList<CompileError> typeErrors = new ArrayList<>();
     ExpressionTypeChecker expressionTypeChecker = new ExpressionTypeChecker(typeErrors);
+    // Function whose body is being checked; null in main, which returns nothing.
+    private FuncDeclaration function;
 
     @Override
     public Void visit(Program program) {
@@ -49,9 +56,11 @@ public class TypeAnalyzer extends Visitor<Void> {
             //unreachable
         }
 
+        function = funcDeclaration;
         for(var stmt : funcDeclaration.getStatements()) {
             stmt.accept(this);
         }
+        function = null;
 
         SymbolTable.pop();
 
@@ -82,7 +91,7 @@ public class TypeAnalyzer extends Visitor<Void> {
 
 
 
-        if(!(assignStmt.getLValue() instanceof Identifier)) {
+        if(!expressionTypeChecker.isLvalue(assignStmt.getLValue())) {
             typeErrors.add(new LeftSideNotLValue(assignStmt.getLine()));
         } else  if(tl.toString() != tr.toString()){
             if(tr instanceof NoType){
@@ -96,20 +105,47 @@ public class TypeAnalyzer extends Visitor<Void> {
         return null;
     }
 
+    // A bare return takes the default value of the function's type, so
+    // only returned values are checked.
     @Override
-    public Void visit(FunctionCall functionCall) {
-        try {
-                SymbolTable.root.get(FunctionItem.STARTKEY + functionCall.getUFuncName().getName());
-        }
-        catch (ItemNotFoundException e) {
-            typeErrors.add(new FunctionNotDeclared(functionCall.getLine(), functionCall.getUFuncName().getName()));
+    public Void visit(ReturnStmt returnStmt) {
+        if (returnStmt.getExpression() == null)
+            return null;
 
+        Type type = returnStmt.getExpression().accept(expressionTypeChecker);
+        if (type instanceof NoType)
             return null;
-        }
+        if (function == null)
+            typeErrors.add(new ReturnTypeMismatch(returnStmt.getLine(), "main"));
+        else if (!type.toString().equals(function.getType().toString()))
+            typeErrors.add(new ReturnTypeMismatch(returnStmt.getLine(), function.getName().getName()));
 
-        for (Expression arg: functionCall.getArgs())
-            arg.accept(expressionTypeChecker);
+        return null;
+    }
+
+    @Override
+    public Void visit(PredicateStmt predicateStmt) {
+        predicateStmt.getVar().accept(expressionTypeChecker);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt printStmt) {
+        printStmt.getArg().accept(expressionTypeChecker);
+        return null;
+    }
+
+    // Arity and argument types are checked along with calls inside
+    // expressions.
+    @Override
+    public Void visit(FunctionCall functionCall) {
+        functionCall.accept(expressionTypeChecker);
+        return null;
+    }
 
+    @Override
+    public Void visit(FunctionCallStmt functionCallStmt) {
+        functionCallStmt.getFunctionCall().accept(this);
         return null;
     }
 
@@ -121,10 +157,25 @@ public class TypeAnalyzer extends Visitor<Void> {
                 typeErrors.add(new UnsupportedOperandType(value.getLine(), BinaryOperator.assign.name()));
             }
         }
+        if (arrayDecStmt.getInitialValues().size() > arrayDecStmt.getArrSize())
+            typeErrors.add(new ArrayIndexOutOfBounds(arrayDecStmt.getLine(), arrayDecStmt.getIdentifier().getName(), arrayDecStmt.getArrSize()));
 
+        declare(new ArrayItem(arrayDecStmt));
         return null;
     }
 
+    // Locals of nested blocks are only in the block's own scope, which
+    // NameAnalyzer doesn't keep, so they are declared again as they're
+    // reached. Top-level ones already exist and redefinitions were
+    // reported by NameAnalyzer.
+    private void declare(VariableItem variableItem) {
+        try {
+            SymbolTable.top.put(variableItem);
+        } catch (ItemAlreadyExistsException e) {
+            // already declared
+        }
+    }
+
     @Override
     public Void visit(ImplicationStmt implicationStmt) {
         Type cond = implicationStmt.getCondition().accept(expressionTypeChecker);
@@ -133,19 +184,39 @@ public class TypeAnalyzer extends Visitor<Void> {
             typeErrors.add(new ConditionTypeNotBool(implicationStmt.getLine()));
         }
 
+        SymbolTable.push(new SymbolTable(SymbolTable.top, implicationStmt.toString()));
         for(var stmt : implicationStmt.getStatements()) {
             stmt.accept(this);
         }
+        SymbolTable.pop();
 
         return null;
     }
 
     @Override
     public Void visit(ForloopStmt forloopStmt) {
-        forloopStmt.getIterator().accept(this);
+        var forLoopSymbolTable = new SymbolTable(SymbolTable.top, forloopStmt.toString());
+        Type iteratorType = new NoType();
+        try {
+            var variableItem = (VariableItem) SymbolTable.top.get(VariableItem.STARTKEY + forloopStmt.getArrayName().getName());
+            if (variableItem instanceof ArrayItem)
+                iteratorType = variableItem.getType();
+            else
+                typeErrors.add(new NotAnArray(forloopStmt.getLine(), forloopStmt.getArrayName().getName()));
+        } catch (ItemNotFoundException e) {
+            typeErrors.add(new VarNotDeclared(forloopStmt.getLine(), forloopStmt.getArrayName().getName()));
+        }
+        try {
+            forLoopSymbolTable.put(new VariableItem(forloopStmt.getIterator().getName(), iteratorType));
+        } catch (ItemAlreadyExistsException e) {
+            //unreachable
+        }
+
+        SymbolTable.push(forLoopSymbolTable);
         for (var stmt: forloopStmt.getStatements()) {
             stmt.accept(this);
         }
+        SymbolTable.pop();
 
         return null;
     }
@@ -158,6 +229,7 @@ public class TypeAnalyzer extends Visitor<Void> {
                 typeErrors.add(new UnsupportedOperandType(varDecStmt.getLine(), BinaryOperator.eq.name()));
             }
         }
+        declare(new VariableItem(varDecStmt));
         return null;
     }
 }